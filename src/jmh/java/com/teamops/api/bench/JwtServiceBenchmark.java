@@ -0,0 +1,55 @@
+package com.teamops.api.bench;
+
+import com.teamops.api.security.JwtProperties;
+import com.teamops.api.security.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+  private JwtService cached;
+  // verified-token cache disabled: every parse does the full HMAC + JSON work
+  private JwtService uncached;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    cached = new JwtService(props(10_000), new SimpleMeterRegistry());
+    uncached = new JwtService(props(0), new SimpleMeterRegistry());
+    token = cached.issueToken("bench@teamops.dev", "USER");
+    cached.parse(token);
+  }
+
+  @Benchmark
+  public String issueToken() {
+    return cached.issueToken("bench@teamops.dev", "USER");
+  }
+
+  @Benchmark
+  public Jws<Claims> parseCacheHit() {
+    return cached.parse(token);
+  }
+
+  @Benchmark
+  public Jws<Claims> parseCacheMiss() {
+    return uncached.parse(token);
+  }
+
+  private static JwtProperties props(long cacheSize) {
+    JwtProperties p = new JwtProperties();
+    p.setSecret("bench-secret-bench-secret-bench-secret-0123");
+    p.setExpiresMin(60);
+    p.setVerifiedCacheMaxSize(cacheSize);
+    return p;
+  }
+}
@@ -0,0 +1,87 @@
+package com.teamops.api.bench;
+
+import com.teamops.api.cache.InMemoryInvalidationBus;
+import com.teamops.api.workspace.MembershipIndex;
+import com.teamops.api.workspace.Memberships;
+import com.teamops.api.workspace.WorkspaceProperties;
+import com.teamops.api.workspace.WorkspaceRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Authorization cost for a user in many workspaces. The loader is in-memory, so loadAfterInvalidate
+// is the on-heap rebuild only; in production a miss also pays one DB round trip.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MembershipIndexBenchmark {
+
+  private static final String EMAIL = "bench@teamops.dev";
+
+  @Param({"10", "300", "1000"})
+  public int workspaces;
+
+  private record Row(UUID workspaceId, WorkspaceRole role) {}
+
+  // what the members query returns for the user, in table order
+  private List<Row> rows;
+  private MembershipIndex index;
+  private UUID member;
+  private UUID stranger;
+
+  @Setup
+  public void setUp() {
+    rows = new ArrayList<>(workspaces);
+    WorkspaceRole[] roles = WorkspaceRole.values();
+    for (int i = 0; i < workspaces; i++) {
+      rows.add(new Row(UUID.randomUUID(), roles[i % roles.length]));
+    }
+    // worst case for a scan: the last row
+    member = rows.get(workspaces - 1).workspaceId();
+    stranger = UUID.randomUUID();
+
+    WorkspaceProperties props = new WorkspaceProperties();
+    index = new MembershipIndex(email -> load(), new InMemoryInvalidationBus(), props, new SimpleMeterRegistry());
+    index.roleOf(EMAIL, member);
+  }
+
+  @Benchmark
+  public WorkspaceRole indexHit() {
+    return index.roleOf(EMAIL, member);
+  }
+
+  @Benchmark
+  public WorkspaceRole indexHitNotMember() {
+    return index.roleOf(EMAIL, stranger);
+  }
+
+  @Benchmark
+  public WorkspaceRole loadAfterInvalidate() {
+    index.invalidate(List.of(EMAIL));
+    return index.roleOf(EMAIL, member);
+  }
+
+  // baseline: scanning the user's membership rows per request
+  @Benchmark
+  public WorkspaceRole linearScan() {
+    for (Row r : rows) {
+      if (r.workspaceId().equals(member)) return r.role();
+    }
+    return null;
+  }
+
+  private Memberships load() {
+    Map<UUID, WorkspaceRole> roles = new HashMap<>();
+    for (Row r : rows) roles.put(r.workspaceId(), r.role());
+    return new Memberships(roles);
+  }
+}
@@ -0,0 +1,65 @@
+package com.teamops.api.bench;
+
+import com.teamops.api.common.ApiExceptionHandler;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProblemDetailBenchmark {
+
+  private ApiExceptionHandler handler;
+  private MockHttpServletRequest request;
+  private ResponseStatusException notFound;
+  private MethodArgumentNotValidException invalid;
+
+  @Setup
+  public void setUp() throws Exception {
+    handler = new ApiExceptionHandler();
+    request = new MockHttpServletRequest("GET", "/api/projects/7f0c0f5e-2b8b-4a52-9a3f-2f6f1c0a9b11/tasks");
+    notFound = new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found");
+
+    BeanPropertyBindingResult errors = new BeanPropertyBindingResult(new Body(), "body");
+    errors.rejectValue("title", "NotBlank", "must not be blank");
+    errors.rejectValue("title", "Size", "size must be between 1 and 200");
+    errors.rejectValue("status", "Pattern", "Invalid status. Use TODO, IN_PROGRESS, or DONE.");
+    MethodParameter param = new MethodParameter(Body.class.getDeclaredMethod("accept", Body.class), 0);
+    invalid = new MethodArgumentNotValidException(param, errors);
+  }
+
+  @Benchmark
+  public ResponseEntity<ProblemDetail> responseStatus() {
+    return handler.handleResponseStatus(notFound, request);
+  }
+
+  @Benchmark
+  public ResponseEntity<ProblemDetail> validation() {
+    return handler.handleValidation(invalid, request);
+  }
+
+  // the handlers only need a bean with properties to reject and a method parameter to point at
+  public static class Body {
+    private String title;
+    private String status;
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public void accept(Body body) {}
+  }
+}
@@ -0,0 +1,100 @@
+package com.teamops.api.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.teamops.api.common.CursorPage;
+import com.teamops.api.project.Project;
+import com.teamops.api.project.ProjectResponse;
+import com.teamops.api.task.Task;
+import com.teamops.api.task.TaskResponse;
+import com.teamops.api.task.TaskStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+  @Param({ "50", "1000", "10000" })
+  public int size;
+
+  private ObjectMapper mapper;
+  private List<Task> tasks;
+  private List<Project> projects;
+  private CursorPage<TaskResponse> taskPage;
+
+  @Setup
+  public void setUp() {
+    // same settings as spring.jackson.* in application.yaml
+    mapper = Jackson2ObjectMapperBuilder.json()
+        .timeZone(TimeZone.getTimeZone("UTC"))
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+
+    OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+    UUID projectId = UUID.randomUUID();
+    tasks = new ArrayList<>(size);
+    projects = new ArrayList<>(size);
+
+    for (int i = 0; i < size; i++) {
+      tasks.add(Task.builder()
+          .id(UUID.randomUUID())
+          .projectId(projectId)
+          .title("Task " + i + " - write the quarterly report")
+          .status(i % 3 == 0 ? TaskStatus.DONE : TaskStatus.TODO)
+          .dueAt(i % 2 == 0 ? now.plusDays(i % 30) : null)
+          .ownerEmail("bench@teamops.dev")
+          .createdAt(now.minusMinutes(i))
+          .updatedAt(now.minusMinutes(i))
+          .build());
+
+      projects.add(Project.builder()
+          .id(UUID.randomUUID())
+          .name("Project " + i)
+          .description("Benchmark project number " + i)
+          .ownerEmail("bench@teamops.dev")
+          .createdAt(now.minusMinutes(i))
+          .updatedAt(now.minusMinutes(i))
+          .build());
+    }
+
+    taskPage = new CursorPage<>(mapTasks(), "bmV4dC1jdXJzb3I");
+  }
+
+  @Benchmark
+  public List<TaskResponse> mapTasks() {
+    List<TaskResponse> out = new ArrayList<>(tasks.size());
+    for (Task t : tasks) out.add(TaskResponse.from(t));
+    return out;
+  }
+
+  @Benchmark
+  public List<ProjectResponse> mapProjects() {
+    List<ProjectResponse> out = new ArrayList<>(projects.size());
+    for (Project p : projects) out.add(ProjectResponse.from(p));
+    return out;
+  }
+
+  @Benchmark
+  public byte[] serializeTaskPage() throws Exception {
+    return mapper.writeValueAsBytes(taskPage);
+  }
+
+  // what a list request pays end to end once rows are loaded
+  @Benchmark
+  public byte[] mapAndSerializeProjects() throws Exception {
+    return mapper.writeValueAsBytes(mapProjects());
+  }
+}
@@ -0,0 +1,33 @@
+package com.teamops.api.bench;
+
+import com.teamops.api.task.TaskStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskStatusBenchmark {
+
+  @Param({ "TODO", "in_progress", " In Progress ", "done" })
+  public String raw;
+
+  @Benchmark
+  public String normalizeOrThrow() {
+    return TaskStatus.normalizeOrThrow(raw);
+  }
+
+  // the rejection path builds an exception (and its stack trace) every time
+  @Benchmark
+  public Object normalizeInvalid() {
+    try {
+      return TaskStatus.normalizeOrThrow("BLOCKED");
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+}
@@ -0,0 +1,127 @@
+package com.teamops.api.bench;
+
+import com.teamops.api.db.BulkheadDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Request execution modes under a burst, without needing Postgres. Each simulated request does
+// some non-DB blocking I/O (auth lookup, Redis, ...), then holds a pooled connection for a query.
+// One invocation is a whole burst, so the score is the time until the last request finishes;
+// requests that timed out waiting for a connection are reported as the "failed" counter.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ThreadModeBenchmark {
+
+  // Tomcat's default server.tomcat.threads.max
+  private static final int PLATFORM_THREADS = 200;
+  private static final Duration POOL_TIMEOUT = Duration.ofSeconds(30);
+  private static final Duration BULKHEAD_TIMEOUT = Duration.ofSeconds(5);
+
+  @Param({"platform", "virtual", "virtual-bulkhead"})
+  public String mode;
+
+  @Param("5000")
+  public int requests;
+
+  @Param("10")
+  public int poolSize;
+
+  @Param("5")
+  public long queryMs;
+
+  @Param("20")
+  public long ioMs;
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Outcome {
+    public long failed;
+  }
+
+  @Benchmark
+  public void burst(Outcome outcome) throws InterruptedException {
+    DataSource pool = new SimulatedPool(poolSize);
+    DataSource ds = mode.equals("virtual-bulkhead") ? new BulkheadDataSource(pool, poolSize, BULKHEAD_TIMEOUT) : pool;
+    ExecutorService executor = mode.equals("platform")
+        ? Executors.newFixedThreadPool(PLATFORM_THREADS)
+        : Executors.newVirtualThreadPerTaskExecutor();
+    AtomicInteger failed = new AtomicInteger();
+
+    // the whole burst arrives at once, like a reconnect storm
+    for (int i = 0; i < requests; i++) {
+      executor.execute(() -> {
+        try {
+          Thread.sleep(ioMs);
+          try (Connection c = ds.getConnection()) {
+            Thread.sleep(queryMs);
+          }
+        } catch (SQLException e) {
+          failed.incrementAndGet();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+    }
+    executor.shutdown();
+    executor.awaitTermination(10, TimeUnit.MINUTES);
+    outcome.failed += failed.get();
+  }
+
+  // fixed-size pool with an unfair handoff and a connection timeout, like Hikari
+  private static final class SimulatedPool extends AbstractDataSource {
+    private final Semaphore slots;
+
+    SimulatedPool(int size) {
+      this.slots = new Semaphore(size, false);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+      try {
+        if (!slots.tryAcquire(POOL_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+          throw new SQLTransientConnectionException("Connection is not available, request timed out.");
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new SQLTransientConnectionException("interrupted");
+      }
+      return returningOnClose();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+      return getConnection();
+    }
+
+    // the benchmark only ever closes it; close() hands the slot back once
+    private Connection returningOnClose() {
+      AtomicInteger closed = new AtomicInteger();
+      return (Connection) Proxy.newProxyInstance(
+          Connection.class.getClassLoader(),
+          new Class<?>[] { Connection.class },
+          (proxy, method, args) -> {
+            if ("close".equals(method.getName())) {
+              if (closed.getAndIncrement() == 0) slots.release();
+              return null;
+            }
+            throw new UnsupportedOperationException(method.getName());
+          });
+    }
+  }
+}
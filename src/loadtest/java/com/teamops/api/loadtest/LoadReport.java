@@ -0,0 +1,117 @@
+package com.teamops.api.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Per-endpoint latency histograms (microseconds) and error counts.
+class LoadReport {
+
+  // bump when fields are renamed or their meaning changes, so old reports aren't compared blindly
+  static final int REPORT_VERSION = 1;
+
+  private static final long MAX_LATENCY_MICROS = 60_000_000L;
+
+  private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+  void record(String op, long nanos, boolean ok) {
+    Endpoint e = endpoints.computeIfAbsent(op, k -> new Endpoint());
+    e.latency.recordValue(Math.min(nanos / 1_000, MAX_LATENCY_MICROS));
+    if (!ok) e.errors.incrementAndGet();
+  }
+
+  void print(double seconds) {
+    System.out.printf("%n%-14s %9s %7s %9s %9s %9s %9s %9s%n",
+        "endpoint", "count", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+
+    for (Map.Entry<String, Endpoint> en : new TreeMap<>(endpoints).entrySet()) {
+      Histogram h = en.getValue().latency;
+      System.out.printf("%-14s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+          en.getKey(),
+          h.getTotalCount(),
+          en.getValue().errors.get(),
+          h.getTotalCount() / seconds,
+          ms(h.getValueAtPercentile(50)),
+          ms(h.getValueAtPercentile(95)),
+          ms(h.getValueAtPercentile(99)),
+          ms(h.getMaxValue()));
+    }
+    Histogram all = total();
+    System.out.printf("%-14s %9d %7s %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+        "TOTAL", all.getTotalCount(), "", all.getTotalCount() / seconds,
+        ms(all.getValueAtPercentile(50)), ms(all.getValueAtPercentile(95)),
+        ms(all.getValueAtPercentile(99)), ms(all.getMaxValue()));
+  }
+
+  Path write(LoadTestConfig config, boolean virtualThreads, Instant startedAt, double seconds) throws IOException {
+    ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    ObjectNode root = mapper.createObjectNode();
+
+    root.put("reportVersion", REPORT_VERSION);
+    root.put("label", config.label());
+    root.put("startedAt", startedAt.toString());
+    root.put("measuredSeconds", seconds);
+    root.put("javaVersion", System.getProperty("java.version"));
+    root.put("virtualThreads", virtualThreads);
+
+    ObjectNode cfg = root.putObject("config");
+    cfg.put("users", config.users());
+    cfg.put("projectsPerUser", config.projectsPerUser());
+    cfg.put("tasksPerProject", config.tasksPerProject());
+    cfg.put("concurrency", config.concurrency());
+    cfg.put("warmup", config.warmup().toString());
+    cfg.put("duration", config.duration().toString());
+    cfg.put("seed", config.seed());
+    ObjectNode mix = cfg.putObject("mix");
+    config.mix().forEach(mix::put);
+
+    ObjectNode eps = root.putObject("endpoints");
+    for (Map.Entry<String, Endpoint> en : new TreeMap<>(endpoints).entrySet()) {
+      summarize(eps.putObject(en.getKey()), en.getValue().latency, en.getValue().errors.get(), seconds);
+    }
+    long totalErrors = endpoints.values().stream().mapToLong(e -> e.errors.get()).sum();
+    summarize(root.putObject("total"), total(), totalErrors, seconds);
+
+    Path dir = Path.of(config.reportDir());
+    Files.createDirectories(dir);
+    Path file = dir.resolve("report-" + config.label() + "-" + startedAt.toEpochMilli() + ".json");
+    mapper.writeValue(file.toFile(), root);
+    return file;
+  }
+
+  private static void summarize(ObjectNode node, Histogram h, long errors, double seconds) {
+    node.put("count", h.getTotalCount());
+    node.put("errors", errors);
+    node.put("rps", h.getTotalCount() / seconds);
+    node.put("p50Ms", ms(h.getValueAtPercentile(50)));
+    node.put("p95Ms", ms(h.getValueAtPercentile(95)));
+    node.put("p99Ms", ms(h.getValueAtPercentile(99)));
+    node.put("maxMs", ms(h.getMaxValue()));
+  }
+
+  private Histogram total() {
+    Histogram all = new Histogram(MAX_LATENCY_MICROS, 3);
+    for (Endpoint e : endpoints.values()) all.add(e.latency);
+    return all;
+  }
+
+  private static double ms(long micros) {
+    return micros / 1_000.0;
+  }
+
+  private static final class Endpoint {
+    final Histogram latency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    final AtomicLong errors = new AtomicLong();
+  }
+}
@@ -0,0 +1,319 @@
+package com.teamops.api.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.teamops.api.TeamopsApiApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Boots the whole app against an embedded Postgres (real Flyway migrations), seeds data through
+// the public API, then drives a weighted mix of requests from a fixed number of closed-loop
+// workers and writes a JSON report. See "Load testing" in the readme for the knobs.
+public class LoadTest {
+
+  static final List<String> OPERATIONS = List.of(
+      "register", "login", "listProjects", "listTasks", "getTask", "createTask", "patchTask", "deleteTask"
+  );
+
+  private static final String PASSWORD = "loadtest-password";
+  private static final String[] STATUSES = { "TODO", "IN_PROGRESS", "DONE" };
+
+  private final LoadTestConfig config;
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final HttpClient http;
+  private final LoadReport report = new LoadReport();
+  private final AtomicLong registrations = new AtomicLong();
+  private String baseUrl;
+
+  LoadTest(LoadTestConfig config) {
+    this.config = config;
+    this.http = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+  }
+
+  public static void main(String[] args) throws Exception {
+    LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+    boolean virtualThreads = Boolean.parseBoolean(System.getProperty("loadtest.virtualThreads", "true"));
+
+    // devtools would restart the context from a different classloader
+    System.setProperty("spring.devtools.restart.enabled", "false");
+
+    try (EmbeddedPostgres pg = EmbeddedPostgres.builder().start()) {
+      ConfigurableApplicationContext app = new SpringApplicationBuilder(TeamopsApiApplication.class)
+          .properties(appProperties(pg.getJdbcUrl("postgres", "postgres"), virtualThreads))
+          .run();
+      try {
+        LoadTest test = new LoadTest(config);
+        test.baseUrl = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+        test.run(virtualThreads);
+      } finally {
+        app.close();
+      }
+    }
+  }
+
+  private static Map<String, Object> appProperties(String jdbcUrl, boolean virtualThreads) {
+    Map<String, Object> p = new HashMap<>();
+    p.put("server.port", 0);
+    p.put("spring.threads.virtual.enabled", virtualThreads);
+    p.put("spring.datasource.url", jdbcUrl);
+    p.put("spring.datasource.username", "postgres");
+    p.put("spring.datasource.password", "postgres");
+    p.put("spring.jpa.open-in-view", false);
+    p.put("spring.jpa.hibernate.ddl-auto", "validate");
+    p.put("spring.data.redis.repositories.enabled", false);
+    p.put("management.health.redis.enabled", false);
+    p.put("app.cache.store", "memory");
+    // measuring the app, not the throttle
+    p.put("app.rate-limit.enabled", false);
+    p.put("app.scheduling.enabled", false);
+    p.put("security.jwt.secret", "loadtest-secret-loadtest-secret-loadtest-secret");
+    p.put("security.jwt.expires-min", 24 * 60);
+    p.put("logging.level.root", "WARN");
+    return p;
+  }
+
+  void run(boolean virtualThreads) throws Exception {
+    System.out.printf("Seeding %d users x %d projects x %d tasks...%n",
+        config.users(), config.projectsPerUser(), config.tasksPerProject());
+    List<SeededUser> users = seed();
+
+    List<Worker> workers = new ArrayList<>();
+    for (int i = 0; i < config.concurrency(); i++) {
+      SeededUser user = users.get(i % users.size());
+      workers.add(new Worker(i, user, taskSlice(user, i, users.size())));
+    }
+
+    System.out.printf("Warm-up %s, measuring %s with %d workers (seed %d)...%n",
+        config.warmup(), config.duration(), config.concurrency(), config.seed());
+
+    long warmupEnds = System.nanoTime() + config.warmup().toNanos();
+    long runEnds = warmupEnds + config.duration().toNanos();
+    Instant startedAt = Instant.now().plus(config.warmup());
+
+    try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (Worker w : workers) pool.execute(() -> w.loop(warmupEnds, runEnds));
+    }
+
+    double seconds = config.duration().toNanos() / 1e9;
+    report.print(seconds);
+    Path file = report.write(config, virtualThreads, startedAt, seconds);
+    System.out.println("\nReport: " + file.toAbsolutePath());
+  }
+
+  // ---- seeding ----
+
+  // tasks are [projectId, taskId] pairs
+  record SeededUser(String email, String token, List<UUID> projects, List<UUID[]> tasks) {}
+
+  private List<SeededUser> seed() {
+    List<SeededUser> users = Collections.synchronizedList(new ArrayList<>());
+
+    try (ExecutorService pool = Executors.newFixedThreadPool(16)) {
+      for (int u = 0; u < config.users(); u++) {
+        int index = u;
+        pool.execute(() -> {
+          try {
+            users.add(seedUser(index));
+          } catch (Exception e) {
+            throw new IllegalStateException("Seeding user " + index + " failed", e);
+          }
+        });
+      }
+    }
+
+    if (users.size() != config.users()) throw new IllegalStateException("Seeding failed, see errors above");
+    users.sort(Comparator.comparing(SeededUser::email));
+    return users;
+  }
+
+  private SeededUser seedUser(int index) throws IOException, InterruptedException {
+    String email = "seed-" + index + "@loadtest.dev";
+    String token = register(email).path("token").asText();
+
+    List<UUID> projects = new ArrayList<>();
+    List<UUID[]> tasks = new ArrayList<>();
+
+    for (int p = 0; p < config.projectsPerUser(); p++) {
+      ObjectNode body = mapper.createObjectNode().put("name", "Project " + p).put("description", "seeded");
+      UUID projectId = UUID.fromString(send("POST", "/api/projects", token, body).body().path("id").asText());
+      projects.add(projectId);
+
+      // the bulk endpoint takes up to 10k operations per call
+      int remaining = config.tasksPerProject();
+      while (remaining > 0) {
+        int n = Math.min(remaining, 5_000);
+        ArrayNode ops = mapper.createArrayNode();
+        for (int t = 0; t < n; t++) {
+          ops.addObject().put("op", "CREATE").put("title", "Seeded task " + (remaining - t)).put("status", STATUSES[t % 3]);
+        }
+        ObjectNode bulk = mapper.createObjectNode();
+        bulk.set("operations", ops);
+
+        JsonNode results = send("POST", "/api/projects/" + projectId + "/tasks/bulk", token, bulk).body().path("results");
+        for (JsonNode r : results) {
+          if (r.hasNonNull("id")) tasks.add(new UUID[] { projectId, UUID.fromString(r.path("id").asText()) });
+        }
+        remaining -= n;
+      }
+    }
+    return new SeededUser(email, token, projects, tasks);
+  }
+
+  // workers sharing a user get disjoint task ids so patch/delete don't race each other into 404s
+  private Deque<UUID[]> taskSlice(SeededUser user, int worker, int userCount) {
+    int rank = worker / userCount;
+    int sharers = (config.concurrency() - worker % userCount + userCount - 1) / userCount;
+
+    Deque<UUID[]> slice = new ArrayDeque<>();
+    for (int i = rank; i < user.tasks().size(); i += sharers) slice.add(user.tasks().get(i));
+    return slice;
+  }
+
+  // ---- traffic ----
+
+  private final class Worker {
+
+    private final int index;
+    private final SeededUser user;
+    // [projectId, taskId] pairs this worker may patch or delete
+    private final Deque<UUID[]> owned;
+    private final SplittableRandom random;
+    private final String[] wheel;
+
+    Worker(int index, SeededUser user, Deque<UUID[]> owned) {
+      this.index = index;
+      this.user = user;
+      this.owned = owned;
+      this.random = new SplittableRandom(config.seed() + index);
+      this.wheel = wheel(config.mix());
+    }
+
+    void loop(long warmupEnds, long runEnds) {
+      while (true) {
+        long start = System.nanoTime();
+        if (start >= runEnds) return;
+
+        String op = wheel[random.nextInt(wheel.length)];
+        boolean ok;
+        try {
+          ok = execute(op);
+        } catch (IOException e) {
+          ok = false;
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+
+        if (start >= warmupEnds) report.record(op, System.nanoTime() - start, ok);
+      }
+    }
+
+    private boolean execute(String op) throws IOException, InterruptedException {
+      UUID project = user.projects().get(random.nextInt(user.projects().size()));
+
+      return switch (op) {
+        case "register" -> {
+          String email = "run-" + index + "-" + registrations.incrementAndGet() + "@loadtest.dev";
+          yield register(email).has("token");
+        }
+        case "login" -> {
+          ObjectNode body = mapper.createObjectNode().put("email", user.email()).put("password", PASSWORD);
+          yield send("POST", "/auth/login", null, body).ok();
+        }
+        case "listProjects" -> send("GET", "/api/projects", user.token(), null).ok();
+        case "listTasks" -> {
+          String query = random.nextInt(4) == 0 ? "?status=" + STATUSES[random.nextInt(3)] : "";
+          yield send("GET", "/api/projects/" + project + "/tasks" + query, user.token(), null).ok();
+        }
+        case "getTask" -> {
+          UUID[] t = owned.peekFirst();
+          if (t == null) yield createTask(project);
+          yield send("GET", "/api/projects/" + t[0] + "/tasks/" + t[1], user.token(), null).ok();
+        }
+        case "createTask" -> createTask(project);
+        case "patchTask" -> {
+          UUID[] t = owned.pollFirst();
+          if (t == null) yield createTask(project);
+          owned.addLast(t);
+          ObjectNode body = mapper.createObjectNode().put("status", STATUSES[random.nextInt(3)]);
+          yield send("PATCH", "/api/projects/" + t[0] + "/tasks/" + t[1], user.token(), body).ok();
+        }
+        case "deleteTask" -> {
+          UUID[] t = owned.pollLast();
+          if (t == null) yield createTask(project);
+          yield send("DELETE", "/api/projects/" + t[0] + "/tasks/" + t[1], user.token(), null).ok();
+        }
+        default -> throw new IllegalStateException(op);
+      };
+    }
+
+    private boolean createTask(UUID project) throws IOException, InterruptedException {
+      ObjectNode body = mapper.createObjectNode().put("title", "Load task " + random.nextInt()).put("status", "TODO");
+      Result r = send("POST", "/api/projects/" + project + "/tasks", user.token(), body);
+      if (r.ok() && r.body().hasNonNull("id")) {
+        owned.addLast(new UUID[] { project, UUID.fromString(r.body().path("id").asText()) });
+      }
+      return r.ok();
+    }
+  }
+
+  // operation names repeated by weight, so picking one is a single array lookup
+  private static String[] wheel(Map<String, Integer> mix) {
+    List<String> out = new ArrayList<>();
+    mix.forEach((op, weight) -> {
+      for (int i = 0; i < weight; i++) out.add(op);
+    });
+    return out.toArray(String[]::new);
+  }
+
+  // ---- http ----
+
+  record Result(int status, JsonNode body) {
+    boolean ok() {
+      return status >= 200 && status < 300;
+    }
+  }
+
+  private JsonNode register(String email) throws IOException, InterruptedException {
+    ObjectNode body = mapper.createObjectNode()
+        .put("email", email)
+        .put("password", PASSWORD)
+        .put("displayName", "Load Test");
+    return send("POST", "/auth/register", null, body).body();
+  }
+
+  private Result send(String method, String path, String token, JsonNode body) throws IOException, InterruptedException {
+    HttpRequest.Builder req = HttpRequest.newBuilder(URI.create(baseUrl + path))
+        .timeout(Duration.ofSeconds(30))
+        .method(method, body == null
+            ? HttpRequest.BodyPublishers.noBody()
+            : HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body)));
+
+    if (body != null) req.header("Content-Type", "application/json");
+    if (token != null) req.header("Authorization", "Bearer " + token);
+
+    HttpResponse<byte[]> res = http.send(req.build(), HttpResponse.BodyHandlers.ofByteArray());
+    JsonNode json = res.body().length == 0 ? mapper.nullNode() : mapper.readTree(res.body());
+    return new Result(res.statusCode(), json);
+  }
+}
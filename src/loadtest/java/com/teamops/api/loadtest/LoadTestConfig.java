@@ -0,0 +1,56 @@
+package com.teamops.api.loadtest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Everything comes from -Dloadtest.* so a run can be repeated exactly from its report.
+record LoadTestConfig(
+    int users,
+    int projectsPerUser,
+    int tasksPerProject,
+    int concurrency,
+    Duration warmup,
+    Duration duration,
+    long seed,
+    Map<String, Integer> mix,
+    String label,
+    String reportDir
+) {
+
+  static final String DEFAULT_MIX =
+      "listTasks=35,getTask=15,listProjects=10,createTask=15,patchTask=15,deleteTask=5,login=4,register=1";
+
+  static LoadTestConfig fromSystemProperties() {
+    return new LoadTestConfig(
+        Integer.getInteger("loadtest.users", 50),
+        Integer.getInteger("loadtest.projectsPerUser", 5),
+        Integer.getInteger("loadtest.tasksPerProject", 200),
+        Integer.getInteger("loadtest.concurrency", 64),
+        Duration.parse(System.getProperty("loadtest.warmup", "PT15S")),
+        Duration.parse(System.getProperty("loadtest.duration", "PT60S")),
+        Long.getLong("loadtest.seed", 42L),
+        parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX)),
+        System.getProperty("loadtest.label", "unlabeled"),
+        System.getProperty("loadtest.reportDir", "target/loadtest")
+    );
+  }
+
+  // "listTasks=35,createTask=15" -> ordered weights
+  static Map<String, Integer> parseMix(String raw) {
+    Map<String, Integer> mix = new LinkedHashMap<>();
+    for (String part : raw.split(",")) {
+      String[] kv = part.trim().split("=");
+      if (kv.length != 2) throw new IllegalArgumentException("Bad mix entry: " + part);
+
+      String op = kv[0].trim();
+      if (!LoadTest.OPERATIONS.contains(op)) {
+        throw new IllegalArgumentException("Unknown operation '" + op + "'. Use one of " + LoadTest.OPERATIONS);
+      }
+      int weight = Integer.parseInt(kv[1].trim());
+      if (weight > 0) mix.put(op, weight);
+    }
+    if (mix.isEmpty()) throw new IllegalArgumentException("Mix has no operations with weight > 0");
+    return mix;
+  }
+}
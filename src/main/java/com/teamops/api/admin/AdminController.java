@@ -1,15 +1,71 @@
 package com.teamops.api.admin;
 
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import com.teamops.api.audit.AuditEvent;
+import com.teamops.api.audit.AuditLog;
+import com.teamops.api.security.PrincipalCache;
+import com.teamops.api.user.User;
+import com.teamops.api.user.UserRepository;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/admin")
 public class AdminController {
 
+  private static final Set<String> ROLES = Set.of("USER", "ADMIN");
+
+  private final UserRepository users;
+  private final PrincipalCache principals;
+  private final AuditLog audit;
+
+  public AdminController(UserRepository users, PrincipalCache principals, AuditLog audit) {
+    this.users = users;
+    this.principals = principals;
+    this.audit = audit;
+  }
+
   @GetMapping("/ping")
   public String ping() {
     return "ok";
   }
+
+  // tokens issued with the old role stop working on every node once the cached principal is evicted
+  @PutMapping("/users/{email}/role")
+  public ResponseEntity<Void> changeRole(
+      @AuthenticationPrincipal UserDetails admin,
+      @PathVariable String email,
+      @Valid @RequestBody ChangeRoleRequest req
+  ) {
+    String target = email.trim().toLowerCase(Locale.ROOT);
+    String role = req.getRole().trim().toUpperCase(Locale.ROOT);
+    if (!ROLES.contains(role)) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "role must be one of USER, ADMIN");
+    }
+
+    User u = users.findByEmail(target).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+    u.setRole(role);
+    users.save(u);
+    principals.evict(target);
+
+    audit.record(AuditEvent.of("user.role_changed", "user", null, admin.getUsername(), Map.of("email", target, "role", role)));
+    return ResponseEntity.noContent().build();
+  }
+
+  public static class ChangeRoleRequest {
+    @NotBlank
+    private String role;
+
+    public String getRole() { return role; }
+    public void setRole(String role) { this.role = role; }
+  }
 }
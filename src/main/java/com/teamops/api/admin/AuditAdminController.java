@@ -0,0 +1,82 @@
+package com.teamops.api.admin;
+
+import com.teamops.api.audit.AuditEntry;
+import com.teamops.api.audit.AuditQuery;
+import com.teamops.api.audit.AuditRepository;
+import com.teamops.api.common.CursorPage;
+import com.teamops.api.common.KeysetCursor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+// ADMIN only (see SecurityConfig)
+@RestController
+@RequestMapping("/api/admin/audit")
+public class AuditAdminController {
+
+  // default window when `from` is omitted; keeps an unfiltered query to a month or two of partitions
+  private static final Duration DEFAULT_WINDOW = Duration.ofDays(7);
+  private static final Duration MAX_WINDOW = Duration.ofDays(366);
+
+  private final AuditRepository audit;
+
+  public AuditAdminController(AuditRepository audit) {
+    this.audit = audit;
+  }
+
+  @GetMapping
+  public ResponseEntity<CursorPage<AuditEntry>> list(
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+      @RequestParam(required = false) String actor,
+      @RequestParam(required = false) String action,
+      @RequestParam(required = false) String entityType,
+      @RequestParam(required = false) UUID entityId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit
+  ) {
+    OffsetDateTime end = to != null ? to : OffsetDateTime.now(ZoneOffset.UTC);
+    OffsetDateTime start = from != null ? from : end.minus(DEFAULT_WINDOW);
+    if (!start.isBefore(end)) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must be before to");
+    }
+    if (Duration.between(start, end).compareTo(MAX_WINDOW) > 0) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "time range is limited to 366 days");
+    }
+
+    KeysetCursor after;
+    try {
+      after = KeysetCursor.decodeOrNull(cursor);
+    } catch (IllegalArgumentException e) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    AuditQuery q = new AuditQuery(
+        start,
+        end,
+        blankToNull(actor) == null ? null : actor.trim().toLowerCase(),
+        blankToNull(action),
+        blankToNull(entityType),
+        entityId
+    );
+
+    int pageSize = CursorPage.clampLimit(limit);
+    List<AuditEntry> rows = audit.findPage(q, after, pageSize + 1);
+    return ResponseEntity.ok(CursorPage.of(rows, pageSize, e -> new KeysetCursor(e.createdAt(), e.id())));
+  }
+
+  private static String blankToNull(String s) {
+    return (s == null || s.isBlank()) ? null : s.trim();
+  }
+}
@@ -0,0 +1,16 @@
+package com.teamops.api.audit;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record AuditEntry(
+    UUID id,
+    String action,
+    String entityType,
+    UUID entityId,
+    String actorEmail,
+    @JsonRawValue String metadata, // jsonb text, passed through as-is
+    OffsetDateTime createdAt
+) {}
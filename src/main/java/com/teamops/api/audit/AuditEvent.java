@@ -0,0 +1,20 @@
+package com.teamops.api.audit;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
+
+// One audit_events row; timestamped when it happens, not when the writer flushes it
+public record AuditEvent(
+    String action,
+    String entityType,
+    UUID entityId,
+    String actorEmail,
+    Map<String, Object> metadata, // nullable, stored as jsonb
+    OffsetDateTime at
+) {
+  public static AuditEvent of(String action, String entityType, UUID entityId, String actorEmail, Map<String, Object> metadata) {
+    return new AuditEvent(action, entityType, entityId, actorEmail, metadata, OffsetDateTime.now(ZoneOffset.UTC));
+  }
+}
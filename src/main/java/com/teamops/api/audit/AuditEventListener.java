@@ -0,0 +1,40 @@
+package com.teamops.api.audit;
+
+import com.teamops.api.project.ProjectEvent;
+import com.teamops.api.task.TaskEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Project/task mutations reach the audit trail through the same events realtime uses,
+// so every write path (single, bulk) is covered without touching the controllers.
+@Component
+public class AuditEventListener {
+
+  private final AuditLog audit;
+
+  public AuditEventListener(AuditLog audit) {
+    this.audit = audit;
+  }
+
+  // after commit: rolled-back writes are never audited
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(TaskEvent e) {
+    Map<String, Object> meta = new LinkedHashMap<>();
+    meta.put("projectId", e.projectId());
+    if (e.task() != null) meta.put("status", e.task().status());
+
+    audit.record(new AuditEvent(
+        "task." + e.type().name().toLowerCase(), "task", e.taskId(), e.actorEmail(), meta, e.at()));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(ProjectEvent e) {
+    Map<String, Object> meta = e.project() == null ? null : Map.of("name", e.project().name());
+
+    audit.record(new AuditEvent(
+        "project." + e.type().name().toLowerCase(), "project", e.projectId(), e.ownerEmail(), meta, e.at()));
+  }
+}
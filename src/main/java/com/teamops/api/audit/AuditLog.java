@@ -0,0 +1,152 @@
+package com.teamops.api.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// Request threads only enqueue; a single writer thread drains the queue and inserts in batches
+// (batch-size rows, or whatever arrived within flush-interval). When the queue is full a producer
+// waits at most offer-timeout and then the event is dropped and counted, so audit never becomes
+// the bottleneck of a write request.
+@Component
+public class AuditLog implements SmartLifecycle {
+
+  private static final Logger log = LoggerFactory.getLogger(AuditLog.class);
+
+  private final AuditRepository repo;
+  private final AuditProperties props;
+  private final BlockingQueue<AuditEvent> queue;
+
+  private final Counter written;
+  private final Counter droppedFull;
+  private final Counter droppedStopped;
+  private final Counter droppedFailed;
+  private final Timer flush;
+
+  private volatile boolean running;
+  private Thread writer;
+
+  public AuditLog(AuditRepository repo, AuditProperties props, MeterRegistry registry) {
+    this.repo = repo;
+    this.props = props;
+    this.queue = new ArrayBlockingQueue<>(props.getQueueCapacity());
+
+    Gauge.builder("audit.queue", queue, BlockingQueue::size)
+        .description("audit events waiting to be written")
+        .register(registry);
+    this.written = Counter.builder("audit.written").register(registry);
+    this.droppedFull = dropped(registry, "queue_full");
+    this.droppedStopped = dropped(registry, "stopped");
+    this.droppedFailed = dropped(registry, "write_failed");
+    this.flush = Timer.builder("audit.flush")
+        .description("one batched insert into audit_events")
+        .register(registry);
+  }
+
+  private static Counter dropped(MeterRegistry registry, String reason) {
+    return Counter.builder("audit.dropped").tag("reason", reason).register(registry);
+  }
+
+  public void record(AuditEvent event) {
+    if (!props.isEnabled()) return;
+    if (!running) {
+      droppedStopped.increment();
+      return;
+    }
+    try {
+      if (!queue.offer(event, props.getOfferTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+        droppedFull.increment();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      droppedFull.increment();
+    }
+  }
+
+  @Override
+  public void start() {
+    running = true;
+    writer = Thread.ofPlatform().name("audit-writer").daemon().start(this::drainLoop);
+  }
+
+  // graceful shutdown: stop accepting, then let the writer empty the queue
+  @Override
+  public void stop() {
+    running = false;
+    if (writer == null) return;
+    try {
+      writer.join(props.getShutdownTimeout().toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (writer.isAlive()) {
+      log.warn("audit writer did not drain within {}, {} event(s) lost", props.getShutdownTimeout(), queue.size());
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  // stops after the web server (higher phases stop first), while the DataSource is still up
+  @Override
+  public int getPhase() {
+    return SmartLifecycle.DEFAULT_PHASE - 4096;
+  }
+
+  private void drainLoop() {
+    List<AuditEvent> batch = new ArrayList<>(props.getBatchSize());
+    long flushNanos = props.getFlushInterval().toNanos();
+
+    while (running || !queue.isEmpty()) {
+      try {
+        AuditEvent first = queue.poll(flushNanos, TimeUnit.NANOSECONDS);
+        if (first == null) continue;
+        batch.add(first);
+
+        // fill up to batch-size, but never hold the first event longer than flush-interval
+        long deadline = System.nanoTime() + flushNanos;
+        while (batch.size() < props.getBatchSize()) {
+          queue.drainTo(batch, props.getBatchSize() - batch.size());
+          if (batch.size() >= props.getBatchSize() || !running) break;
+          long remaining = deadline - System.nanoTime();
+          if (remaining <= 0) break;
+          AuditEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+          if (next == null) break;
+          batch.add(next);
+        }
+      } catch (InterruptedException e) {
+        // nothing should interrupt the writer; clear it and keep draining rather than lose events
+        Thread.interrupted();
+      }
+
+      if (!batch.isEmpty()) {
+        write(batch);
+        batch.clear();
+      }
+    }
+  }
+
+  private void write(List<AuditEvent> batch) {
+    try {
+      flush.record(() -> repo.insertAll(batch));
+      written.increment(batch.size());
+    } catch (RuntimeException e) {
+      // no retry: a failing database would only grow the backlog
+      droppedFailed.increment(batch.size());
+      log.warn("audit batch of {} dropped: {}", batch.size(), e.getMessage());
+    }
+  }
+}
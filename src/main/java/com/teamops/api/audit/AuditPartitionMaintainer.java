@@ -0,0 +1,76 @@
+package com.teamops.api.audit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+// Keeps audit_events' monthly partitions ahead of the clock and removes the ones past retention.
+// Inserts for a month without a partition fail (there is no default partition), so this runs
+// well before each month starts: partitions-ahead months are always in place.
+@Component
+public class AuditPartitionMaintainer {
+
+  private static final Logger log = LoggerFactory.getLogger(AuditPartitionMaintainer.class);
+
+  private final AuditRepository repo;
+  private final AuditProperties props;
+  private final TransactionTemplate tx;
+
+  public AuditPartitionMaintainer(AuditRepository repo, AuditProperties props, TransactionTemplate tx) {
+    this.repo = repo;
+    this.props = props;
+    this.tx = tx;
+  }
+
+  @Scheduled(
+      initialDelayString = "${app.audit.partition-initial-delay:PT1M}",
+      fixedDelayString = "${app.audit.partition-interval:PT6H}"
+  )
+  public void maintain() {
+    LocalDate thisMonth = LocalDate.now(ZoneOffset.UTC).withDayOfMonth(1);
+
+    for (int i = 0; i <= props.getPartitionsAhead(); i++) {
+      LocalDate month = thisMonth.plusMonths(i);
+      if (!locked("create partition " + month, () -> repo.ensurePartition(month))) return;
+    }
+
+    // a partition holds [month, month + 1); it expires once that whole range is past retention
+    LocalDate cutoff = thisMonth.minusMonths(props.getRetentionMonths());
+    for (AuditRepository.Partition p : repo.findPartitions()) {
+      if (!p.month().isBefore(cutoff)) continue;
+      boolean detach = props.getRetentionAction() == AuditProperties.RetentionAction.DETACH;
+      boolean ran = locked((detach ? "detach " : "drop ") + p.name(), () -> {
+        if (!repo.isPartition(p.name())) return;
+        if (detach) repo.detachPartition(p.name());
+        else repo.dropPartition(p.name());
+        log.info("{} expired audit partition {}", detach ? "detached" : "dropped", p.name());
+      });
+      if (!ran) return;
+    }
+  }
+
+  // One transaction per partition operation: each DDL takes an exclusive lock on audit_events, and
+  // in one big transaction those were all held (blocking audit inserts) until the last one finished.
+  // A failed operation rolls back alone and the next run retries it. False when another node holds
+  // the maintenance lock, so this run stops.
+  private boolean locked(String what, Runnable op) {
+    try {
+      return Boolean.TRUE.equals(tx.execute(status -> {
+        if (!repo.tryMaintenanceLock()) {
+          log.debug("audit partition maintenance running on another node, skipping");
+          return false;
+        }
+        op.run();
+        return true;
+      }));
+    } catch (RuntimeException e) {
+      log.warn("audit partition maintenance failed to {}: {}", what, e.getMessage());
+      return true;
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package com.teamops.api.audit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.audit")
+public class AuditProperties {
+  private boolean enabled = true;
+
+  // events buffered in memory; beyond this producers wait up to offer-timeout, then the event is dropped
+  private int queueCapacity = 20_000;
+  private Duration offerTimeout = Duration.ofMillis(5);
+
+  // a batch is written when it reaches batch-size or flush-interval after its first event
+  private int batchSize = 500;
+  private Duration flushInterval = Duration.ofSeconds(1);
+
+  // how long shutdown waits for the queue to drain
+  private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+  // monthly partitions: created this many months ahead, removed once older than retention-months
+  private int partitionsAhead = 3;
+  private int retentionMonths = 13;
+  private RetentionAction retentionAction = RetentionAction.DROP;
+
+  // DETACH keeps expired months as standalone tables (archive, then drop by hand)
+  public enum RetentionAction { DROP, DETACH }
+}
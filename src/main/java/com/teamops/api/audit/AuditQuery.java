@@ -0,0 +1,14 @@
+package com.teamops.api.audit;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+// [from, to) is always bounded so the planner only visits the months it covers; the rest are optional filters
+public record AuditQuery(
+    OffsetDateTime from,
+    OffsetDateTime to,
+    String actorEmail,
+    String action,
+    String entityType,
+    UUID entityId
+) {}
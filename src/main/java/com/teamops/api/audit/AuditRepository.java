@@ -0,0 +1,166 @@
+package com.teamops.api.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamops.api.common.KeysetCursor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public class AuditRepository {
+
+  private static final String INSERT = """
+      insert into audit_events (action, entity_type, entity_id, actor_email, metadata, created_at)
+      values (?, ?, ?, ?, ?::jsonb, ?)
+      """;
+
+  // explicit types: null binds then skip the driver's parameter-metadata round trip
+  private static final int[] TYPES = {
+      Types.VARCHAR, Types.VARCHAR, Types.OTHER, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP_WITH_TIMEZONE
+  };
+
+  private static final RowMapper<AuditEntry> ROW_MAPPER = (rs, rowNum) -> new AuditEntry(
+      rs.getObject("id", UUID.class),
+      rs.getString("action"),
+      rs.getString("entity_type"),
+      rs.getObject("entity_id", UUID.class),
+      rs.getString("actor_email"),
+      rs.getString("metadata"),
+      rs.getObject("created_at", OffsetDateTime.class)
+  );
+
+  // audit_events_pYYYY_MM, see V13
+  public record Partition(String name, LocalDate month) {}
+
+  private final JdbcTemplate jdbc;
+  private final NamedParameterJdbcTemplate named;
+  private final ObjectMapper mapper;
+
+  public AuditRepository(JdbcTemplate jdbc, NamedParameterJdbcTemplate named, ObjectMapper mapper) {
+    this.jdbc = jdbc;
+    this.named = named;
+    this.mapper = mapper;
+  }
+
+  // one JDBC batch; reWriteBatchedInserts (application.yaml) sends it as multi-row INSERTs
+  public void insertAll(List<AuditEvent> events) {
+    List<Object[]> rows = new ArrayList<>(events.size());
+    for (AuditEvent e : events) {
+      rows.add(new Object[] { e.action(), e.entityType(), e.entityId(), e.actorEmail(), json(e), e.at() });
+    }
+    jdbc.batchUpdate(INSERT, rows, TYPES);
+  }
+
+  // newest first, keyset on (created_at, id). The plain created_at bounds (including the cursor's)
+  // are what lets the planner prune partitions; the row comparison alone would not.
+  public List<AuditEntry> findPage(AuditQuery q, KeysetCursor after, int fetchSize) {
+    StringBuilder sql = new StringBuilder("""
+        select id, action, entity_type, entity_id, actor_email, metadata::text as metadata, created_at
+        from audit_events
+        where created_at >= :from and created_at < :to
+        """);
+    MapSqlParameterSource params = new MapSqlParameterSource()
+        .addValue("from", q.from())
+        .addValue("to", q.to())
+        .addValue("limit", fetchSize);
+
+    if (q.actorEmail() != null) {
+      sql.append(" and actor_email = :actorEmail");
+      params.addValue("actorEmail", q.actorEmail());
+    }
+    if (q.action() != null) {
+      sql.append(" and action = :action");
+      params.addValue("action", q.action());
+    }
+    if (q.entityType() != null) {
+      sql.append(" and entity_type = :entityType");
+      params.addValue("entityType", q.entityType());
+    }
+    if (q.entityId() != null) {
+      sql.append(" and entity_id = :entityId");
+      params.addValue("entityId", q.entityId());
+    }
+    if (after != null) {
+      sql.append(" and created_at <= :afterAt and (created_at, id) < (:afterAt, :afterId)");
+      params.addValue("afterAt", after.createdAt());
+      params.addValue("afterId", after.id());
+    }
+    sql.append(" order by created_at desc, id desc limit :limit");
+
+    return named.query(sql.toString(), params, ROW_MAPPER);
+  }
+
+  public String ensurePartition(LocalDate monthStart) {
+    return jdbc.queryForObject("select audit_events_ensure_partition(?)", String.class, monthStart);
+  }
+
+  public List<Partition> findPartitions() {
+    return jdbc.query("""
+        select c.relname
+        from pg_inherits i
+        join pg_class c on c.oid = i.inhrelid
+        where i.inhparent = 'audit_events'::regclass
+        order by c.relname
+        """, (rs, rowNum) -> {
+      String name = rs.getString("relname");
+      return new Partition(name, monthOf(name));
+    }).stream().filter(p -> p.month() != null).toList();
+  }
+
+  // another node may have dropped or detached it since findPartitions
+  public boolean isPartition(String name) {
+    Boolean attached = jdbc.queryForObject("""
+        select exists (
+          select 1 from pg_inherits i join pg_class c on c.oid = i.inhrelid
+          where i.inhparent = 'audit_events'::regclass and c.relname = ?
+        )
+        """, Boolean.class, name);
+    return Boolean.TRUE.equals(attached);
+  }
+
+  public void dropPartition(String name) {
+    jdbc.execute("drop table if exists " + quoted(name));
+  }
+
+  public void detachPartition(String name) {
+    jdbc.execute("alter table audit_events detach partition " + quoted(name));
+  }
+
+  // must run inside a transaction, released when it ends; one node runs partition DDL at a time
+  public boolean tryMaintenanceLock() {
+    Boolean locked = jdbc.queryForObject("select pg_try_advisory_xact_lock(hashtext('audit_events_partitions'))", Boolean.class);
+    return Boolean.TRUE.equals(locked);
+  }
+
+  // null for partitions not created by audit_events_ensure_partition
+  static LocalDate monthOf(String partitionName) {
+    if (!partitionName.matches("audit_events_p\\d{4}_\\d{2}")) return null;
+    int year = Integer.parseInt(partitionName.substring(14, 18));
+    int month = Integer.parseInt(partitionName.substring(19, 21));
+    return LocalDate.of(year, month, 1);
+  }
+
+  // names come from pg_class and match the pattern above, quoting is belt and braces
+  private static String quoted(String name) {
+    return "\"" + name.replace("\"", "\"\"") + "\"";
+  }
+
+  private String json(AuditEvent e) {
+    if (e.metadata() == null || e.metadata().isEmpty()) return null;
+    try {
+      return mapper.writeValueAsString(e.metadata());
+    } catch (JsonProcessingException ex) {
+      throw new IllegalArgumentException("audit metadata is not serializable: " + e.action(), ex);
+    }
+  }
+}
@@ -1,5 +1,7 @@
 package com.teamops.api.auth;
 
+import com.teamops.api.audit.AuditEvent;
+import com.teamops.api.audit.AuditLog;
 import com.teamops.api.security.JwtService;
 import com.teamops.api.user.User;
 import com.teamops.api.user.UserRepository;
@@ -8,9 +10,12 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/auth")
 public class AuthController {
@@ -19,12 +24,20 @@ public class AuthController {
   private final PasswordEncoder encoder;
   private final AuthenticationManager authManager;
   private final JwtService jwt;
+  private final AuditLog audit;
 
-  public AuthController(UserRepository users, PasswordEncoder encoder, AuthenticationManager authManager, JwtService jwt) {
+  public AuthController(
+      UserRepository users,
+      PasswordEncoder encoder,
+      AuthenticationManager authManager,
+      JwtService jwt,
+      AuditLog audit
+  ) {
     this.users = users;
     this.encoder = encoder;
     this.authManager = authManager;
     this.jwt = jwt;
+    this.audit = audit;
   }
 
   @PostMapping("/register")
@@ -42,6 +55,7 @@ public class AuthController {
     u.setRole("USER");
 
     users.save(u);
+    audit.record(AuditEvent.of("auth.register", "user", u.getId(), u.getEmail(), null));
 
     String token = jwt.issueToken(u.getEmail(), u.getRole());
     return ResponseEntity.status(HttpStatus.CREATED).body(new AuthDtos.AuthResponse(token));
@@ -51,11 +65,18 @@ public class AuthController {
   public AuthDtos.AuthResponse login(@Valid @RequestBody AuthDtos.LoginRequest req) {
     String email = req.getEmail().toLowerCase();
 
-    authManager.authenticate(
-        new UsernamePasswordAuthenticationToken(email, req.getPassword())
-    );
+    try {
+      authManager.authenticate(
+          new UsernamePasswordAuthenticationToken(email, req.getPassword())
+      );
+    } catch (AuthenticationException e) {
+      // enqueue only; the exception still maps to 401 as before
+      audit.record(AuditEvent.of("auth.login_failed", "user", null, email, Map.of("reason", e.getClass().getSimpleName())));
+      throw e;
+    }
 
     User u = users.findByEmail(email).orElseThrow();
+    audit.record(AuditEvent.of("auth.login", "user", u.getId(), u.getEmail(), null));
     String token = jwt.issueToken(u.getEmail(), u.getRole());
     return new AuthDtos.AuthResponse(token);
   }
@@ -0,0 +1,181 @@
+package com.teamops.api.cache;
+
+import com.teamops.api.common.CursorPage;
+import com.teamops.api.common.ListVersion;
+import com.teamops.api.project.ProjectResponse;
+import com.teamops.api.task.TaskResponse;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Compact binary form for cached responses: fixed-width UUIDs/timestamps, length-prefixed UTF-8.
+// A TaskResponse is ~100 bytes + title, well under half of its JSON.
+public final class CacheCodec {
+  private CacheCodec() {}
+
+  // bump when a layout changes; entries with another version decode as a miss
+  private static final byte VERSION = 2;
+
+  private interface Writer<T> { void write(DataOutputStream out, T value) throws IOException; }
+  private interface Reader<T> { T read(DataInputStream in) throws IOException; }
+
+  // revision of a cached resource for KeyValueCache.putIfNewer: updated_at in epoch microseconds
+  public static long revision(OffsetDateTime updatedAt) {
+    if (updatedAt == null) return Long.MIN_VALUE;
+    Instant i = updatedAt.toInstant();
+    return i.getEpochSecond() * 1_000_000 + i.getNano() / 1_000;
+  }
+
+  public static byte[] encodeProject(ProjectResponse p) {
+    return encode(p, CacheCodec::writeProject);
+  }
+
+  public static ProjectResponse decodeProject(byte[] bytes) {
+    return decode(bytes, CacheCodec::readProject);
+  }
+
+  // pages carry the ListVersion they were loaded under; another version decodes as a miss
+  public static byte[] encodeProjectPage(ListVersion version, CursorPage<ProjectResponse> page) {
+    return encode(page, (out, v) -> writePage(out, version, v, CacheCodec::writeProject));
+  }
+
+  public static CursorPage<ProjectResponse> decodeProjectPage(byte[] bytes, ListVersion version) {
+    return decode(bytes, in -> readPage(in, version, CacheCodec::readProject));
+  }
+
+  public static byte[] encodeTask(TaskResponse t) {
+    return encode(t, CacheCodec::writeTask);
+  }
+
+  public static TaskResponse decodeTask(byte[] bytes) {
+    return decode(bytes, CacheCodec::readTask);
+  }
+
+  public static byte[] encodeTaskPage(ListVersion version, CursorPage<TaskResponse> page) {
+    return encode(page, (out, v) -> writePage(out, version, v, CacheCodec::writeTask));
+  }
+
+  public static CursorPage<TaskResponse> decodeTaskPage(byte[] bytes, ListVersion version) {
+    return decode(bytes, in -> readPage(in, version, CacheCodec::readTask));
+  }
+
+  private static void writeProject(DataOutputStream out, ProjectResponse p) throws IOException {
+    writeUuid(out, p.id());
+    writeString(out, p.name());
+    writeString(out, p.description());
+    writeTime(out, p.createdAt());
+    writeTime(out, p.updatedAt());
+  }
+
+  private static ProjectResponse readProject(DataInputStream in) throws IOException {
+    return new ProjectResponse(readUuid(in), readString(in), readString(in), readTime(in), readTime(in));
+  }
+
+  private static void writeTask(DataOutputStream out, TaskResponse t) throws IOException {
+    writeUuid(out, t.id());
+    writeUuid(out, t.projectId());
+    writeString(out, t.title());
+    writeString(out, t.status());
+    writeTime(out, t.dueAt());
+    writeTime(out, t.createdAt());
+    writeTime(out, t.updatedAt());
+  }
+
+  private static TaskResponse readTask(DataInputStream in) throws IOException {
+    return new TaskResponse(
+        readUuid(in), readUuid(in), readString(in), readString(in), readTime(in), readTime(in), readTime(in)
+    );
+  }
+
+  private static <T> void writePage(DataOutputStream out, ListVersion version, CursorPage<T> page, Writer<T> item)
+      throws IOException {
+    out.writeLong(count(version));
+    out.writeLong(revision(version.maxUpdatedAt()));
+    out.writeInt(page.items().size());
+    for (T t : page.items()) item.write(out, t);
+    writeString(out, page.nextCursor());
+  }
+
+  private static <T> CursorPage<T> readPage(DataInputStream in, ListVersion version, Reader<T> item) throws IOException {
+    if (in.readLong() != count(version) || in.readLong() != revision(version.maxUpdatedAt())) return null;
+    int n = in.readInt();
+    List<T> items = new ArrayList<>(n);
+    for (int i = 0; i < n; i++) items.add(item.read(in));
+    return new CursorPage<>(List.copyOf(items), readString(in));
+  }
+
+  private static long count(ListVersion version) {
+    return version.count() == null ? 0 : version.count();
+  }
+
+  private static <T> byte[] encode(T value, Writer<T> writer) {
+    ByteArrayOutputStream buf = new ByteArrayOutputStream(128);
+    try (DataOutputStream out = new DataOutputStream(buf)) {
+      out.writeByte(VERSION);
+      writer.write(out, value);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return buf.toByteArray();
+  }
+
+  // null -> treat as a cache miss
+  private static <T> T decode(byte[] bytes, Reader<T> reader) {
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+      if (in.readByte() != VERSION) return null;
+      return reader.read(in);
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private static void writeUuid(DataOutputStream out, UUID id) throws IOException {
+    out.writeLong(id.getMostSignificantBits());
+    out.writeLong(id.getLeastSignificantBits());
+  }
+
+  private static UUID readUuid(DataInputStream in) throws IOException {
+    return new UUID(in.readLong(), in.readLong());
+  }
+
+  private static void writeString(DataOutputStream out, String s) throws IOException {
+    if (s == null) {
+      out.writeInt(-1);
+      return;
+    }
+    byte[] b = s.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(b.length);
+    out.write(b);
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    int len = in.readInt();
+    if (len < 0) return null;
+    byte[] b = in.readNBytes(len);
+    if (b.length != len) throw new EOFException();
+    return new String(b, StandardCharsets.UTF_8);
+  }
+
+  private static void writeTime(DataOutputStream out, OffsetDateTime t) throws IOException {
+    if (t == null) {
+      out.writeBoolean(false);
+      return;
+    }
+    Instant i = t.toInstant();
+    out.writeBoolean(true);
+    out.writeLong(i.getEpochSecond());
+    out.writeInt(i.getNano());
+  }
+
+  // responses are always rendered in UTC (spring.jackson.time-zone), so the offset isn't kept
+  private static OffsetDateTime readTime(DataInputStream in) throws IOException {
+    if (!in.readBoolean()) return null;
+    return OffsetDateTime.ofInstant(Instant.ofEpochSecond(in.readLong(), in.readInt()), ZoneOffset.UTC);
+  }
+}
@@ -0,0 +1,53 @@
+package com.teamops.api.cache;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+  // Cross-node transport: Redis whenever Redis is in use, otherwise everything is in one JVM.
+  // REDIS mode has no L1 to invalidate, but node-local caches such as PrincipalCache still
+  // subscribe. The Redis bus starts with the context (SmartLifecycle), not here.
+  @Bean
+  public InvalidationBus invalidationBus(CacheProperties props, ObjectProvider<RedisConnectionFactory> redis) {
+    return switch (props.getStore()) {
+      case MEMORY -> new InMemoryInvalidationBus();
+      case REDIS, TIERED -> new RedisInvalidationBus(redis.getObject());
+    };
+  }
+
+  @Bean
+  public KeyValueCache keyValueCache(
+      CacheProperties props,
+      ObjectProvider<RedisConnectionFactory> redis,
+      InvalidationBus bus
+  ) {
+    return switch (props.getStore()) {
+      case MEMORY -> new InMemoryKeyValueCache(props.getMaxEntries());
+      case REDIS -> new RedisKeyValueCache(bytesTemplate(redis.getObject()));
+      case TIERED -> new TieredKeyValueCache(
+          new InMemoryKeyValueCache(props.getMaxEntries()),
+          new RedisKeyValueCache(bytesTemplate(redis.getObject())),
+          bus,
+          props.getL1Ttl()
+      );
+    };
+  }
+
+  private static RedisTemplate<String, byte[]> bytesTemplate(RedisConnectionFactory factory) {
+    RedisTemplate<String, byte[]> t = new RedisTemplate<>();
+    t.setConnectionFactory(factory);
+    t.setKeySerializer(StringRedisSerializer.UTF_8);
+    t.setValueSerializer(RedisSerializer.byteArray());
+    t.afterPropertiesSet();
+    return t;
+  }
+}
@@ -0,0 +1,26 @@
+package com.teamops.api.cache;
+
+import java.util.UUID;
+
+// Every key is namespaced by owner so one user's entries can never be served to another
+public final class CacheKeys {
+  private CacheKeys() {}
+
+  private static final String PREFIX = "teamops:v1:";
+
+  public static String project(String owner, UUID projectId) {
+    return PREFIX + owner + ":project:" + projectId;
+  }
+
+  public static String projectsFirstPage(String owner) {
+    return PREFIX + owner + ":projects:first";
+  }
+
+  public static String task(String owner, UUID projectId, UUID taskId) {
+    return PREFIX + owner + ":task:" + projectId + ":" + taskId;
+  }
+
+  public static String tasksFirstPage(String owner, UUID projectId) {
+    return PREFIX + owner + ":tasks:" + projectId + ":first";
+  }
+}
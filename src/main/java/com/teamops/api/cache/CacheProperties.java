@@ -0,0 +1,28 @@
+package com.teamops.api.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheProperties {
+
+  // MEMORY: in-process only. REDIS: shared store. TIERED: in-process L1 in front of Redis L2.
+  public enum Store { MEMORY, REDIS, TIERED }
+
+  private Store store = Store.MEMORY;
+
+  // single resources are invalidated by revision on every write, so they can live longer than list pages
+  private Duration entryTtl = Duration.ofMinutes(5);
+  private Duration listTtl = Duration.ofSeconds(30);
+
+  // MEMORY store, and the L1 of TIERED
+  private long maxEntries = 50_000;
+
+  // TIERED only: upper bound on how long a node can serve a copy whose invalidation it missed
+  private Duration l1Ttl = Duration.ofSeconds(30);
+}
@@ -0,0 +1,28 @@
+package com.teamops.api.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// Single-JVM transport: used for single-node setups and to wire several "nodes" together in tests
+public class InMemoryInvalidationBus implements InvalidationBus {
+
+  private final Map<String, List<Consumer<Invalidation>>> listeners = new ConcurrentHashMap<>();
+
+  @Override
+  public void publish(String region, String origin, Collection<String> keys) {
+    if (keys.isEmpty()) return;
+    Invalidation msg = new Invalidation(origin, List.copyOf(keys));
+    for (Consumer<Invalidation> l : listeners.getOrDefault(region, List.of())) {
+      l.accept(msg);
+    }
+  }
+
+  @Override
+  public void subscribe(String region, Consumer<Invalidation> listener) {
+    listeners.computeIfAbsent(region, r -> new CopyOnWriteArrayList<>()).add(listener);
+  }
+}
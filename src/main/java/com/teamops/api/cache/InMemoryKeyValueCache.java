@@ -0,0 +1,74 @@
+package com.teamops.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+// In-process store: used when no Redis is around (tests, single-node dev)
+public class InMemoryKeyValueCache implements KeyValueCache {
+
+  // value is null for a bare revision mark left by invalidate
+  private record Entry(byte[] value, long ttlNanos, long revision) {}
+
+  private final Cache<String, Entry> cache;
+
+  public InMemoryKeyValueCache(long maxEntries) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maxEntries)
+        .expireAfter(new Expiry<String, Entry>() {
+          @Override
+          public long expireAfterCreate(String key, Entry e, long currentTime) {
+            return e.ttlNanos();
+          }
+
+          @Override
+          public long expireAfterUpdate(String key, Entry e, long currentTime, long currentDuration) {
+            return e.ttlNanos();
+          }
+
+          @Override
+          public long expireAfterRead(String key, Entry e, long currentTime, long currentDuration) {
+            return currentDuration;
+          }
+        })
+        .build();
+  }
+
+  @Override
+  public Optional<byte[]> get(String key) {
+    Entry e = cache.getIfPresent(key);
+    return (e == null || e.value() == null) ? Optional.empty() : Optional.of(e.value());
+  }
+
+  @Override
+  public void put(String key, byte[] value, Duration ttl) {
+    cache.put(key, new Entry(value, ttl.toNanos(), Long.MIN_VALUE));
+  }
+
+  @Override
+  public void evict(Collection<String> keys) {
+    cache.invalidateAll(keys);
+  }
+
+  @Override
+  public boolean putIfNewer(String key, byte[] value, long revision, Duration ttl) {
+    boolean[] accepted = new boolean[1];
+    cache.asMap().compute(key, (k, cur) -> {
+      if (cur != null && cur.revision() > revision) return cur;
+      accepted[0] = true;
+      return new Entry(value, ttl.toNanos(), revision);
+    });
+    return accepted[0];
+  }
+
+  @Override
+  public void invalidate(Map<String, Long> revisions, Duration ttl) {
+    revisions.forEach((key, revision) -> cache.asMap().compute(key, (k, cur) ->
+        new Entry(null, ttl.toNanos(), cur == null ? revision : Math.max(cur.revision(), revision))));
+  }
+}
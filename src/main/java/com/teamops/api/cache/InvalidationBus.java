@@ -0,0 +1,17 @@
+package com.teamops.api.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Fire-and-forget fan-out of "drop these keys" messages to every node (including the sender;
+// listeners skip their own messages via origin). Delivery is best effort, so anything relying on
+// it must also have a TTL.
+public interface InvalidationBus {
+
+  record Invalidation(String origin, List<String> keys) {}
+
+  void publish(String region, String origin, Collection<String> keys);
+
+  void subscribe(String region, Consumer<Invalidation> listener);
+}
@@ -0,0 +1,28 @@
+package com.teamops.api.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+// Byte-oriented store behind the read-through caches. Implementations must never throw on
+// backend trouble: a failed read is a miss and a failed write is dropped.
+public interface KeyValueCache {
+
+  // revision that no load can reach: keeps a deleted resource's key empty
+  long GONE = Long.MAX_VALUE;
+
+  Optional<byte[]> get(String key);
+
+  void put(String key, byte[] value, Duration ttl);
+
+  void evict(Collection<String> keys);
+
+  // Revisioned entries (single resources). Each key also remembers the highest revision put or
+  // invalidated for it, for ttl. A put below that mark is dropped and returns false, so a read that
+  // loaded the row before a write can't repopulate the key after the write invalidated it.
+  boolean putIfNewer(String key, byte[] value, long revision, Duration ttl);
+
+  // drops the values and raises each key's mark to the given revision
+  void invalidate(Map<String, Long> revisions, Duration ttl);
+}
@@ -0,0 +1,83 @@
+package com.teamops.api.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Redis pub/sub transport: one channel per region, payload is "origin\nkey1\nkey2..."
+// The subscriber connection is opened by the application lifecycle, and only once something subscribes.
+public class RedisInvalidationBus implements InvalidationBus, SmartLifecycle, DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(RedisInvalidationBus.class);
+  private static final String CHANNEL_PREFIX = "teamops:invalidate:";
+
+  private final StringRedisTemplate redis;
+  private final RedisMessageListenerContainer container;
+  private volatile boolean running;
+  private volatile boolean subscribed;
+
+  public RedisInvalidationBus(RedisConnectionFactory factory) {
+    this.redis = new StringRedisTemplate(factory);
+    this.container = new RedisMessageListenerContainer();
+    this.container.setConnectionFactory(factory);
+    this.container.afterPropertiesSet();
+  }
+
+  @Override
+  public void publish(String region, String origin, Collection<String> keys) {
+    if (keys.isEmpty()) return;
+    String payload = origin + "\n" + String.join("\n", keys);
+    try {
+      redis.convertAndSend(CHANNEL_PREFIX + region, payload);
+    } catch (RuntimeException e) {
+      // other nodes fall back to their L1 TTL
+      log.warn("invalidation publish failed for region {}: {}", region, e.getMessage());
+    }
+  }
+
+  @Override
+  public synchronized void subscribe(String region, Consumer<Invalidation> listener) {
+    container.addMessageListener((message, pattern) -> {
+      String[] lines = new String(message.getBody(), StandardCharsets.UTF_8).split("\n");
+      if (lines.length < 2) return;
+      List<String> keys = Arrays.asList(lines).subList(1, lines.length);
+      listener.accept(new Invalidation(lines[0], keys));
+    }, new ChannelTopic(CHANNEL_PREFIX + region));
+    subscribed = true;
+    // late subscriber after startup
+    if (running && !container.isRunning()) container.start();
+  }
+
+  @Override
+  public synchronized void start() {
+    if (subscribed) container.start();
+    running = true;
+  }
+
+  @Override
+  public synchronized void stop() {
+    running = false;
+    container.stop();
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public void destroy() throws Exception {
+    container.destroy();
+  }
+}
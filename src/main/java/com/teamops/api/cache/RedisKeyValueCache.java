@@ -0,0 +1,121 @@
+package com.teamops.api.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class RedisKeyValueCache implements KeyValueCache {
+
+  private static final Logger log = LoggerFactory.getLogger(RedisKeyValueCache.class);
+
+  // a revisioned key's mark lives next to it
+  private static final String MARK = ":rev";
+
+  // KEYS[1] value, KEYS[2] mark; ARGV[1] value, ARGV[2] revision, ARGV[3] ttl ms. Returns 1 if written.
+  private static final RedisScript<Long> PUT_IF_NEWER = RedisScript.of("""
+      local mark = redis.call('GET', KEYS[2])
+      if mark and tonumber(mark) > tonumber(ARGV[2]) then return 0 end
+      redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3])
+      redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+      return 1
+      """, Long.class);
+
+  // KEYS value/mark pairs; ARGV[1] ttl ms, then one revision per pair
+  private static final RedisScript<Long> INVALIDATE = RedisScript.of("""
+      for i = 1, #KEYS, 2 do
+        local revision = ARGV[(i + 1) / 2 + 1]
+        local mark = redis.call('GET', KEYS[i + 1])
+        redis.call('DEL', KEYS[i])
+        if not mark or tonumber(mark) < tonumber(revision) then
+          redis.call('SET', KEYS[i + 1], revision, 'PX', ARGV[1])
+        end
+      end
+      return 1
+      """, Long.class);
+
+  private final RedisTemplate<String, byte[]> redis;
+
+  public RedisKeyValueCache(RedisTemplate<String, byte[]> redis) {
+    this.redis = redis;
+  }
+
+  @Override
+  public Optional<byte[]> get(String key) {
+    try {
+      return Optional.ofNullable(redis.opsForValue().get(key));
+    } catch (RuntimeException e) {
+      // cache trouble must never fail the request -> fall through to the database
+      log.debug("cache get failed for {}: {}", key, e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public void put(String key, byte[] value, Duration ttl) {
+    try {
+      redis.opsForValue().set(key, value, ttl);
+    } catch (RuntimeException e) {
+      log.debug("cache put failed for {}: {}", key, e.getMessage());
+    }
+  }
+
+  @Override
+  public void evict(Collection<String> keys) {
+    if (keys.isEmpty()) return;
+    try {
+      redis.delete(keys);
+    } catch (RuntimeException e) {
+      // entries still expire on their TTL
+      log.warn("cache evict failed for {} keys: {}", keys.size(), e.getMessage());
+    }
+  }
+
+  @Override
+  public boolean putIfNewer(String key, byte[] value, long revision, Duration ttl) {
+    try {
+      Long written = redis.execute(
+          PUT_IF_NEWER,
+          List.of(key, key + MARK),
+          value,
+          bytes(Long.toString(revision)),
+          bytes(Long.toString(ttl.toMillis()))
+      );
+      return written != null && written == 1;
+    } catch (RuntimeException e) {
+      log.debug("cache put failed for {}: {}", key, e.getMessage());
+      return false;
+    }
+  }
+
+  @Override
+  public void invalidate(Map<String, Long> revisions, Duration ttl) {
+    if (revisions.isEmpty()) return;
+    List<String> keys = new ArrayList<>(revisions.size() * 2);
+    List<byte[]> args = new ArrayList<>(revisions.size() + 1);
+    args.add(bytes(Long.toString(ttl.toMillis())));
+    revisions.forEach((key, revision) -> {
+      keys.add(key);
+      keys.add(key + MARK);
+      args.add(bytes(Long.toString(revision)));
+    });
+    try {
+      redis.execute(INVALIDATE, keys, args.toArray());
+    } catch (RuntimeException e) {
+      // values still expire on their TTL
+      log.warn("cache invalidate failed for {} keys: {}", revisions.size(), e.getMessage());
+    }
+  }
+
+  private static byte[] bytes(String s) {
+    return s.getBytes(StandardCharsets.UTF_8);
+  }
+}
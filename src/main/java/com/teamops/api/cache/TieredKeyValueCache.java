@@ -0,0 +1,75 @@
+package com.teamops.api.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+// L1: bounded in-heap cache per node. L2: shared store (Redis).
+// Every write/evict is broadcast so other nodes drop their L1 copy; the short L1 TTL bounds
+// staleness if a broadcast is lost.
+public class TieredKeyValueCache implements KeyValueCache {
+
+  static final String REGION = "kv";
+
+  private final String nodeId = UUID.randomUUID().toString();
+  private final KeyValueCache l1;
+  private final KeyValueCache l2;
+  private final InvalidationBus bus;
+  private final Duration l1Ttl;
+
+  public TieredKeyValueCache(KeyValueCache l1, KeyValueCache l2, InvalidationBus bus, Duration l1Ttl) {
+    this.l1 = l1;
+    this.l2 = l2;
+    this.bus = bus;
+    this.l1Ttl = l1Ttl;
+
+    bus.subscribe(REGION, msg -> {
+      if (!nodeId.equals(msg.origin())) l1.evict(msg.keys());
+    });
+  }
+
+  @Override
+  public Optional<byte[]> get(String key) {
+    Optional<byte[]> local = l1.get(key);
+    if (local.isPresent()) return local;
+
+    Optional<byte[]> shared = l2.get(key);
+    shared.ifPresent(v -> l1.put(key, v, l1Ttl));
+    return shared;
+  }
+
+  @Override
+  public void put(String key, byte[] value, Duration ttl) {
+    l2.put(key, value, ttl);
+    l1.put(key, value, ttl.compareTo(l1Ttl) < 0 ? ttl : l1Ttl);
+    bus.publish(REGION, nodeId, List.of(key));
+  }
+
+  @Override
+  public void evict(Collection<String> keys) {
+    if (keys.isEmpty()) return;
+    l1.evict(keys);
+    l2.evict(keys);
+    bus.publish(REGION, nodeId, keys);
+  }
+
+  // L2 holds the marks every node agrees on; L1 only takes what L2 accepted
+  @Override
+  public boolean putIfNewer(String key, byte[] value, long revision, Duration ttl) {
+    if (!l2.putIfNewer(key, value, revision, ttl)) return false;
+    l1.putIfNewer(key, value, revision, ttl.compareTo(l1Ttl) < 0 ? ttl : l1Ttl);
+    bus.publish(REGION, nodeId, List.of(key));
+    return true;
+  }
+
+  @Override
+  public void invalidate(Map<String, Long> revisions, Duration ttl) {
+    if (revisions.isEmpty()) return;
+    l1.invalidate(revisions, ttl.compareTo(l1Ttl) < 0 ? ttl : l1Ttl);
+    l2.invalidate(revisions, ttl);
+    bus.publish(REGION, nodeId, revisions.keySet());
+  }
+}
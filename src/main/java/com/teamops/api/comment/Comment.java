@@ -0,0 +1,47 @@
+package com.teamops.api.comment;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "comments")
+public class Comment {
+
+  public static final String PROJECT = "PROJECT";
+  public static final String TASK = "TASK";
+
+  @Id
+  @UuidGenerator
+  @Column(columnDefinition = "uuid")
+  private UUID id;
+
+  @Column(name = "entity_type", nullable = false)
+  private String entityType; // PROJECT or TASK
+
+  @Column(name = "entity_id", nullable = false)
+  private UUID entityId;
+
+  // the project itself for PROJECT comments, the task's project for TASK comments
+  @Column(name = "project_id", nullable = false)
+  private UUID projectId;
+
+  @Column(nullable = false)
+  private String body;
+
+  @Column(name = "author_email", nullable = false)
+  private String authorEmail;
+
+  @CreationTimestamp
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private OffsetDateTime createdAt;
+}
@@ -0,0 +1,148 @@
+package com.teamops.api.comment;
+
+import com.teamops.api.common.CursorPage;
+import com.teamops.api.common.KeysetCursor;
+import com.teamops.api.task.TaskRepository;
+import com.teamops.api.workspace.ProjectAccess;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/projects/{projectId}")
+public class CommentController {
+
+  private final CommentRepository comments;
+  private final ProjectAccess access;
+  private final TaskRepository tasks;
+
+  public CommentController(CommentRepository comments, ProjectAccess access, TaskRepository tasks) {
+    this.comments = comments;
+    this.access = access;
+    this.tasks = tasks;
+  }
+
+  @GetMapping("/comments")
+  public ResponseEntity<CursorPage<CommentResponse>> listProjectComments(
+      @AuthenticationPrincipal UserDetails user,
+      @PathVariable UUID projectId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit
+  ) {
+    access.requireRead(projectId, user.getUsername());
+    return ResponseEntity.ok(loadPage(Comment.PROJECT, projectId, cursor, limit));
+  }
+
+  @PostMapping("/comments")
+  public ResponseEntity<CommentResponse> addProjectComment(
+      @AuthenticationPrincipal UserDetails user,
+      @PathVariable UUID projectId,
+      @Valid @RequestBody CreateCommentRequest req
+  ) {
+    access.requireWrite(projectId, user.getUsername());
+    return ResponseEntity.status(HttpStatus.CREATED).body(save(Comment.PROJECT, projectId, projectId, user, req));
+  }
+
+  @GetMapping("/tasks/{taskId}/comments")
+  public ResponseEntity<CursorPage<CommentResponse>> listTaskComments(
+      @AuthenticationPrincipal UserDetails user,
+      @PathVariable UUID projectId,
+      @PathVariable UUID taskId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit
+  ) {
+    requireTask(access.requireRead(projectId, user.getUsername()), taskId);
+    return ResponseEntity.ok(loadPage(Comment.TASK, taskId, cursor, limit));
+  }
+
+  @PostMapping("/tasks/{taskId}/comments")
+  public ResponseEntity<CommentResponse> addTaskComment(
+      @AuthenticationPrincipal UserDetails user,
+      @PathVariable UUID projectId,
+      @PathVariable UUID taskId,
+      @Valid @RequestBody CreateCommentRequest req
+  ) {
+    requireTask(access.requireWrite(projectId, user.getUsername()), taskId);
+    return ResponseEntity.status(HttpStatus.CREATED).body(save(Comment.TASK, taskId, projectId, user, req));
+  }
+
+  // project and task comments alike; project_id is stored on both.
+  // Only the comment's author or the project owner may delete it.
+  @DeleteMapping("/comments/{commentId}")
+  public ResponseEntity<Void> delete(
+      @AuthenticationPrincipal UserDetails user,
+      @PathVariable UUID projectId,
+      @PathVariable UUID commentId
+  ) {
+    ProjectAccess.Grant grant = access.requireRead(projectId, user.getUsername());
+
+    Comment c = comments.findByIdAndProjectId(commentId, projectId)
+        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+
+    boolean author = user.getUsername().equals(c.getAuthorEmail());
+    if (!author && !user.getUsername().equals(grant.ownerEmail())) {
+      throw new ResponseStatusException(HttpStatus.FORBIDDEN, "only the author or the project owner can delete a comment");
+    }
+
+    comments.delete(c);
+    return ResponseEntity.noContent().build();
+  }
+
+  private CommentResponse save(String entityType, UUID entityId, UUID projectId, UserDetails user, CreateCommentRequest req) {
+    String body = req.getBody().trim();
+    if (body.isEmpty()) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "body cannot be blank");
+
+    Comment c = Comment.builder()
+        .entityType(entityType)
+        .entityId(entityId)
+        .projectId(projectId)
+        .body(body)
+        .authorEmail(user.getUsername())
+        .build();
+    return CommentResponse.from(comments.save(c));
+  }
+
+  private CursorPage<CommentResponse> loadPage(String entityType, UUID entityId, String cursor, int limit) {
+    KeysetCursor after;
+    try {
+      after = KeysetCursor.decodeOrNull(cursor);
+    } catch (IllegalArgumentException e) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    int pageSize = CursorPage.clampLimit(limit);
+    PageRequest fetch = PageRequest.of(0, pageSize + 1);
+
+    List<CommentResponse> rows = (after == null)
+        ? comments.findFirstPage(entityType, entityId, fetch)
+        : comments.findPageAfter(entityType, entityId, after.createdAt(), after.id(), fetch);
+
+    return CursorPage.of(rows, pageSize, c -> new KeysetCursor(c.createdAt(), c.id()));
+  }
+
+  // task rows carry the project owner's email, whoever is commenting
+  private void requireTask(ProjectAccess.Grant grant, UUID taskId) {
+    if (!tasks.existsOwned(taskId, grant.ownerEmail(), grant.projectId())) {
+      throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+    }
+  }
+
+  public static class CreateCommentRequest {
+    @NotBlank
+    @Size(max = 5000)
+    private String body;
+
+    public String getBody() { return body; }
+    public void setBody(String body) { this.body = body; }
+  }
+}
@@ -0,0 +1,5 @@
+package com.teamops.api.comment;
+
+import java.util.UUID;
+
+public record CommentCount(UUID entityId, Long count) {}
@@ -0,0 +1,72 @@
+package com.teamops.api.comment;
+
+import com.teamops.api.common.ListVersion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface CommentRepository extends JpaRepository<Comment, UUID> {
+
+  Optional<Comment> findByIdAndProjectId(UUID id, UUID projectId);
+
+  // Threads read oldest first, keyset on (created_at, id) via idx_comments_entity_created
+
+  @Transactional(readOnly = true)
+  @Query("""
+      select new com.teamops.api.comment.CommentResponse(c.id, c.entityType, c.entityId, c.body, c.authorEmail, c.createdAt)
+      from Comment c
+      where c.entityType = :entityType and c.entityId = :entityId
+      order by c.createdAt, c.id
+      """)
+  List<CommentResponse> findFirstPage(
+      @Param("entityType") String entityType,
+      @Param("entityId") UUID entityId,
+      Pageable page
+  );
+
+  @Transactional(readOnly = true)
+  @Query("""
+      select new com.teamops.api.comment.CommentResponse(c.id, c.entityType, c.entityId, c.body, c.authorEmail, c.createdAt)
+      from Comment c
+      where c.entityType = :entityType and c.entityId = :entityId
+        and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id))
+      order by c.createdAt, c.id
+      """)
+  List<CommentResponse> findPageAfter(
+      @Param("entityType") String entityType,
+      @Param("entityId") UUID entityId,
+      @Param("createdAt") OffsetDateTime createdAt,
+      @Param("id") UUID id,
+      Pageable page
+  );
+
+  // one grouped query for a whole page of entities; entities without comments are simply absent
+  @Transactional(readOnly = true)
+  @Query("""
+      select new com.teamops.api.comment.CommentCount(c.entityId, count(c))
+      from Comment c
+      where c.entityType = :entityType and c.entityId in :entityIds
+      group by c.entityId
+      """)
+  List<CommentCount> countByEntityIds(
+      @Param("entityType") String entityType,
+      @Param("entityIds") Collection<UUID> entityIds
+  );
+
+  // changes whenever a comment is added to or removed from the project (list ETags)
+  @Transactional(readOnly = true)
+  @Query("""
+      select new com.teamops.api.common.ListVersion(count(c), max(c.createdAt))
+      from Comment c
+      where c.projectId = :projectId
+      """)
+  ListVersion findProjectVersion(@Param("projectId") UUID projectId);
+}
@@ -0,0 +1,17 @@
+package com.teamops.api.comment;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record CommentResponse(
+    UUID id,
+    String entityType,
+    UUID entityId,
+    String body,
+    String authorEmail,
+    OffsetDateTime createdAt
+) {
+  public static CommentResponse from(Comment c) {
+    return new CommentResponse(c.getId(), c.getEntityType(), c.getEntityId(), c.getBody(), c.getAuthorEmail(), c.getCreatedAt());
+  }
+}
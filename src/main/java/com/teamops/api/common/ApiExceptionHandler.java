@@ -5,12 +5,15 @@ import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.ErrorResponseException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
@@ -154,7 +157,18 @@ public class ApiExceptionHandler {
     pd.setDetail(ex.getReason() != null ? ex.getReason() : title);
     stamp(pd, req);
 
-    return ResponseEntity.status(statusCode).body(pd);
+    // e.g. Retry-After on 429/503
+    return ResponseEntity.status(statusCode).headers(ex.getHeaders()).body(pd);
+  }
+
+  // 503 - no database connection within the bulkhead/pool timeout; the client should back off and retry
+  @ExceptionHandler({ CannotCreateTransactionException.class, DataAccessResourceFailureException.class })
+  public ResponseEntity<ProblemDetail> handleDatabaseUnavailable(Exception ex, HttpServletRequest req) {
+    ProblemDetail pd = ProblemDetail.forStatus(HttpStatusCode.valueOf(503));
+    pd.setTitle("Service Unavailable");
+    pd.setDetail("The server is busy, please retry shortly.");
+    stamp(pd, req);
+    return ResponseEntity.status(HttpStatusCode.valueOf(503)).header(HttpHeaders.RETRY_AFTER, "1").body(pd);
   }
 
   // Framework exceptions that already expose a ProblemDetail body
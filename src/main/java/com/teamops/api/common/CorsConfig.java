@@ -3,7 +3,6 @@ package com.teamops.api.common;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.cors.CorsConfiguration;
-import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.List;
@@ -11,8 +10,9 @@ import java.util.List;
 @Configuration
 public class CorsConfig {
 
+  // also the origin list for the /ws handshake (WebSocketConfig)
   @Bean
-  public CorsConfigurationSource corsConfigurationSource() {
+  public UrlBasedCorsConfigurationSource corsConfigurationSource() {
     CorsConfiguration config = new CorsConfiguration();
 
     config.setAllowedOrigins(List.of(
@@ -22,8 +22,8 @@ public class CorsConfig {
     ));
 
     config.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
-    config.setAllowedHeaders(List.of("Authorization", "Content-Type"));
-    config.setExposedHeaders(List.of("Authorization"));
+    config.setAllowedHeaders(List.of("Authorization", "Content-Type", "If-Match", "If-None-Match", "Last-Event-ID"));
+    config.setExposedHeaders(List.of("Authorization", "ETag"));
     config.setAllowCredentials(false);
 
     UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,23 @@
+package com.teamops.api.common;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+  public static final int DEFAULT_LIMIT = 50;
+  public static final int MAX_LIMIT = 200;
+
+  public static int clampLimit(int requested) {
+    return Math.max(1, Math.min(requested, MAX_LIMIT));
+  }
+
+  // rows are expected to be fetched with limit + 1 so we know whether another page exists
+  public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, KeysetCursor> cursorOf) {
+    if (rows.size() <= limit) return new CursorPage<>(rows, null);
+
+    List<T> items = rows.subList(0, limit);
+    String next = cursorOf.apply(items.get(limit - 1)).encode();
+    return new CursorPage<>(List.copyOf(items), next);
+  }
+}
@@ -0,0 +1,64 @@
+package com.teamops.api.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+// ETags derived from updated_at (microseconds, the precision Postgres stores) instead of hashing payloads.
+public final class ETags {
+  private ETags() {}
+
+  // single resources: strong, "<updated_at micros, base36>"
+  public static String strong(OffsetDateTime updatedAt) {
+    return "\"" + Long.toString(micros(updatedAt), 36) + "\"";
+  }
+
+  // lists: weak, from the list version plus every query parameter that shapes the page
+  public static String weak(ListVersion version, Object... params) {
+    CRC32 crc = new CRC32();
+    for (Object p : params) {
+      crc.update(String.valueOf(p).getBytes(StandardCharsets.UTF_8));
+      crc.update('|');
+    }
+    long count = version.count() == null ? 0 : version.count();
+    long max = version.maxUpdatedAt() == null ? 0 : micros(version.maxUpdatedAt());
+    return "W/\"" + Long.toString(count, 36) + "-" + Long.toString(max, 36) + "-" + Long.toHexString(crc.getValue()) + "\"";
+  }
+
+  // If-Match -> acceptable updated_at values. null means "no precondition" (absent or *);
+  // an empty list means nothing can match (e.g. weak or foreign tags), which callers turn into 412.
+  public static List<OffsetDateTime> expectedVersions(String ifMatch) {
+    if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) return null;
+
+    List<OffsetDateTime> out = new ArrayList<>();
+    for (String raw : ifMatch.split(",")) {
+      String tag = raw.trim();
+      // If-Match uses strong comparison, weak tags never match
+      if (tag.startsWith("W/") || tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) continue;
+      try {
+        long micros = Long.parseLong(tag.substring(1, tag.length() - 1), 36);
+        out.add(OffsetDateTime.ofInstant(Instant.EPOCH.plus(micros, ChronoUnit.MICROS), ZoneOffset.UTC));
+      } catch (NumberFormatException ignored) {
+        // not one of ours
+      }
+    }
+    return out;
+  }
+
+  public static boolean matches(List<OffsetDateTime> expected, OffsetDateTime current) {
+    if (expected == null) return true;
+    for (OffsetDateTime e : expected) {
+      if (e.toInstant().equals(current.toInstant().truncatedTo(ChronoUnit.MICROS))) return true;
+    }
+    return false;
+  }
+
+  private static long micros(OffsetDateTime t) {
+    return ChronoUnit.MICROS.between(Instant.EPOCH, t.toInstant());
+  }
+}
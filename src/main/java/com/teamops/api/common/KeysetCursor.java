@@ -0,0 +1,31 @@
+package com.teamops.api.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+// Opaque position in a (created_at desc, id desc) ordering
+public record KeysetCursor(OffsetDateTime createdAt, UUID id) {
+
+  public String encode() {
+    String raw = createdAt.toInstant() + "|" + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static KeysetCursor decodeOrNull(String cursor) {
+    if (cursor == null || cursor.isBlank()) return null;
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+      int sep = raw.indexOf('|');
+      if (sep < 0) throw new IllegalArgumentException("Invalid cursor.");
+      Instant at = Instant.parse(raw.substring(0, sep));
+      UUID id = UUID.fromString(raw.substring(sep + 1));
+      return new KeysetCursor(OffsetDateTime.ofInstant(at, ZoneOffset.UTC), id);
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("Invalid cursor.");
+    }
+  }
+}
@@ -0,0 +1,7 @@
+package com.teamops.api.common;
+
+import java.time.OffsetDateTime;
+
+// Cheap stand-in for "did anything in this list change": any insert/delete moves count,
+// any update moves maxUpdatedAt.
+public record ListVersion(Long count, OffsetDateTime maxUpdatedAt) {}
@@ -0,0 +1,30 @@
+package com.teamops.api.common;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+
+// 429/503 that tells the client when to come back (Retry-After, whole seconds).
+public class RetryableStatusException extends ResponseStatusException {
+
+  private final Duration retryAfter;
+
+  public RetryableStatusException(HttpStatus status, String reason, Duration retryAfter) {
+    super(status, reason);
+    this.retryAfter = retryAfter;
+  }
+
+  public Duration getRetryAfter() {
+    return retryAfter;
+  }
+
+  @Override
+  public HttpHeaders getHeaders() {
+    HttpHeaders headers = new HttpHeaders();
+    long seconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    headers.set(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+    return headers;
+  }
+}
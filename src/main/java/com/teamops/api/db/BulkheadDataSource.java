@@ -0,0 +1,112 @@
+package com.teamops.api.db;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Fair semaphore in front of the pool, one permit per pooled connection. With virtual threads
+// there is no request-thread ceiling any more, so a burst parks here in FIFO order and gives up
+// after acquireTimeout, instead of piling onto Hikari's handoff queue and timing out after 30s.
+public class BulkheadDataSource extends DelegatingDataSource {
+
+  private final Semaphore permits;
+  private final int capacity;
+  private final long timeoutNanos;
+  private final AtomicLong rejected = new AtomicLong();
+
+  public BulkheadDataSource(DataSource target, int permits, Duration acquireTimeout) {
+    super(target);
+    this.capacity = permits;
+    this.permits = new Semaphore(permits, true);
+    this.timeoutNanos = acquireTimeout.toNanos();
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    acquire();
+    try {
+      return releasingOnClose(obtainTargetDataSource().getConnection());
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    acquire();
+    try {
+      return releasingOnClose(obtainTargetDataSource().getConnection(username, password));
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  public int capacity() {
+    return capacity;
+  }
+
+  public int available() {
+    return permits.availablePermits();
+  }
+
+  public int waiting() {
+    return permits.getQueueLength();
+  }
+
+  public long rejected() {
+    return rejected.get();
+  }
+
+  private void acquire() throws SQLException {
+    try {
+      if (!permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS)) {
+        rejected.incrementAndGet();
+        throw new SQLTransientConnectionException("Timed out waiting for a database connection slot.", "08001");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLTransientConnectionException("Interrupted waiting for a database connection slot.", "08001", e);
+    }
+  }
+
+  private Connection releasingOnClose(Connection target) {
+    AtomicBoolean released = new AtomicBoolean();
+    InvocationHandler handler = (proxy, method, args) -> {
+      if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+        try {
+          return method.invoke(target);
+        } catch (InvocationTargetException e) {
+          throw e.getTargetException();
+        } finally {
+          // close() may be called more than once, only the first one returns the slot
+          if (released.compareAndSet(false, true)) permits.release();
+        }
+      }
+      return invoke(target, method, args);
+    };
+    return (Connection) Proxy.newProxyInstance(
+        Connection.class.getClassLoader(), new Class<?>[] { Connection.class }, handler);
+  }
+
+  private static Object invoke(Connection target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getTargetException();
+    }
+  }
+}
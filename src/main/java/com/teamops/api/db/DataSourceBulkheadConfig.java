@@ -0,0 +1,59 @@
+package com.teamops.api.db;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+@Configuration
+@EnableConfigurationProperties(DataSourceBulkheadProperties.class)
+public class DataSourceBulkheadConfig {
+
+  // static so it doesn't drag this config class into early initialization
+  @Bean
+  static BeanPostProcessor dataSourceBulkheadPostProcessor(ObjectProvider<DataSourceBulkheadProperties> props) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof HikariDataSource hikari)) return bean;
+
+        DataSourceBulkheadProperties p = props.getObject();
+        if (!p.isEnabled()) return bean;
+
+        int permits = p.getPermits() > 0 ? p.getPermits() : hikari.getMaximumPoolSize();
+        return new BulkheadDataSource(hikari, permits, p.getAcquireTimeout());
+      }
+    };
+  }
+
+  @Bean
+  public MeterBinder dataSourceBulkheadMetrics(DataSource dataSource) {
+    return registry -> {
+      BulkheadDataSource bulkhead = unwrap(dataSource);
+      if (bulkhead == null) return;
+
+      Gauge.builder("db.bulkhead.available", bulkhead, BulkheadDataSource::available)
+          .description("Free connection slots").register(registry);
+      Gauge.builder("db.bulkhead.waiting", bulkhead, BulkheadDataSource::waiting)
+          .description("Requests parked waiting for a connection slot").register(registry);
+      FunctionCounter.builder("db.bulkhead.rejected", bulkhead, BulkheadDataSource::rejected)
+          .description("Requests turned away after waiting acquire-timeout").register(registry);
+    };
+  }
+
+  private static BulkheadDataSource unwrap(DataSource dataSource) {
+    try {
+      return dataSource.isWrapperFor(BulkheadDataSource.class) ? dataSource.unwrap(BulkheadDataSource.class) : null;
+    } catch (SQLException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,20 @@
+package com.teamops.api.db;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource.bulkhead")
+public class DataSourceBulkheadProperties {
+  private boolean enabled = true;
+
+  // 0 -> same as the Hikari maximum pool size
+  private int permits = 0;
+
+  // how long a request may wait for a slot before it is answered with 503
+  private Duration acquireTimeout = Duration.ofSeconds(5);
+}
@@ -0,0 +1,30 @@
+package com.teamops.api.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+// Latency and error counts per repository method come from Boot's spring.data.repository.invocations
+// timer. This adds the piece it doesn't cover: how many rows each method hands back.
+@Configuration
+public class RepositoryMetricsConfig {
+
+  // static: post-processors are created before regular beans
+  @Bean
+  static BeanPostProcessor repositoryResultSizePostProcessor(ObjectProvider<MeterRegistry> registry) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+          factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+              (proxy, info) -> proxy.addAdvice(new ResultSizeInterceptor(registry, info.getRepositoryInterface()))
+          ));
+        }
+        return bean;
+      }
+    };
+  }
+}
@@ -0,0 +1,54 @@
+package com.teamops.api.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Slice;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Records spring.data.repository.results{repository, method} for methods returning
+// collections, slices/pages or optionals. Tags are bounded by the number of repository methods.
+class ResultSizeInterceptor implements MethodInterceptor {
+
+  private final ObjectProvider<MeterRegistry> registry;
+  private final String repository;
+  private final Map<Method, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+  ResultSizeInterceptor(ObjectProvider<MeterRegistry> registry, Class<?> repositoryInterface) {
+    this.registry = registry;
+    this.repository = repositoryInterface.getSimpleName();
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    Object result = invocation.proceed();
+
+    long size = sizeOf(result);
+    if (size >= 0) summary(invocation.getMethod()).record(size);
+    return result;
+  }
+
+  private DistributionSummary summary(Method method) {
+    return summaries.computeIfAbsent(method, m -> DistributionSummary.builder("spring.data.repository.results")
+        .description("Rows returned per repository call")
+        .baseUnit("rows")
+        .tag("repository", repository)
+        .tag("method", m.getName())
+        .publishPercentileHistogram()
+        .register(registry.getObject()));
+  }
+
+  private static long sizeOf(Object result) {
+    if (result instanceof Collection<?> c) return c.size();
+    if (result instanceof Slice<?> s) return s.getNumberOfElements();
+    if (result instanceof Optional<?> o) return o.isPresent() ? 1 : 0;
+    return -1;
+  }
+}
@@ -32,6 +32,10 @@ public class Project {
   @Column(name = "owner_email", nullable = false)
   private String ownerEmail;
 
+  // set when shared: the workspace's members get access by role
+  @Column(name = "workspace_id")
+  private UUID workspaceId;
+
   @CreationTimestamp
   @Column(name = "created_at", nullable = false, updatable = false)
   private OffsetDateTime createdAt;
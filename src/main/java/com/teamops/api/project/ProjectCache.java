@@ -0,0 +1,69 @@
+package com.teamops.api.project;
+
+import com.teamops.api.cache.CacheCodec;
+import com.teamops.api.cache.CacheKeys;
+import com.teamops.api.cache.CacheProperties;
+import com.teamops.api.cache.KeyValueCache;
+import com.teamops.api.common.CursorPage;
+import com.teamops.api.common.ListVersion;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+// Read-through cache over ProjectRepository reads; ProjectController keeps it in sync on writes
+@Component
+public class ProjectCache {
+
+  private final ProjectRepository projects;
+  private final KeyValueCache cache;
+  private final CacheProperties props;
+
+  public ProjectCache(ProjectRepository projects, KeyValueCache cache, CacheProperties props) {
+    this.projects = projects;
+    this.cache = cache;
+    this.props = props;
+  }
+
+  public Optional<ProjectResponse> getOne(String owner, UUID projectId) {
+    String key = CacheKeys.project(owner, projectId);
+
+    ProjectResponse cached = cache.get(key).map(CacheCodec::decodeProject).orElse(null);
+    if (cached != null) return Optional.of(cached);
+
+    Optional<ProjectResponse> loaded = projects.findResponse(projectId, owner);
+    loaded.ifPresent(p -> cache.putIfNewer(key, CacheCodec.encodeProject(p), CacheCodec.revision(p.updatedAt()), props.getEntryTtl()));
+    return loaded;
+  }
+
+  // Only the default first page is cached: that is what dashboards poll. `version` is the one the
+  // caller's ETag came from; a page cached under any other version is reloaded, so the body served
+  // is never older than its ETag. The loader runs after the version query, so it can only be newer.
+  public CursorPage<ProjectResponse> firstPage(
+      String owner, ListVersion version, Supplier<CursorPage<ProjectResponse>> loader
+  ) {
+    String key = CacheKeys.projectsFirstPage(owner);
+
+    CursorPage<ProjectResponse> cached = cache.get(key).map(b -> CacheCodec.decodeProjectPage(b, version)).orElse(null);
+    if (cached != null) return cached;
+
+    CursorPage<ProjectResponse> loaded = loader.get();
+    cache.put(key, CacheCodec.encodeProjectPage(version, loaded), props.getListTtl());
+    return loaded;
+  }
+
+  // Drop the entry and record the written revision: a read-through load that saw the pre-write row
+  // and puts after this is refused instead of keeping the stale copy for the whole entry TTL.
+  public void written(String owner, ProjectResponse p) {
+    cache.invalidate(Map.of(CacheKeys.project(owner, p.id()), CacheCodec.revision(p.updatedAt())), props.getEntryTtl());
+    cache.evict(List.of(CacheKeys.projectsFirstPage(owner)));
+  }
+
+  public void deleted(String owner, UUID projectId) {
+    cache.invalidate(Map.of(CacheKeys.project(owner, projectId), KeyValueCache.GONE), props.getEntryTtl());
+    cache.evict(List.of(CacheKeys.projectsFirstPage(owner), CacheKeys.tasksFirstPage(owner, projectId)));
+  }
+}
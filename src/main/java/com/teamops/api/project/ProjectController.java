@@ -1,15 +1,26 @@
 package com.teamops.api.project;
 
+import com.teamops.api.common.CursorPage;
+import com.teamops.api.common.ETags;
+import com.teamops.api.common.KeysetCursor;
+import com.teamops.api.common.ListVersion;
+import com.teamops.api.workspace.ProjectAccess;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -18,20 +29,60 @@ import java.util.UUID;
 public class ProjectController {
 
   private final ProjectRepository projects;
-
-  public ProjectController(ProjectRepository projects) {
+  private final ProjectSummaryRepository summaries;
+  private final ProjectCache cache;
+  private final ProjectAccess access;
+  private final ApplicationEventPublisher events;
+  private final TransactionTemplate tx;
+
+  public ProjectController(
+      ProjectRepository projects,
+      ProjectSummaryRepository summaries,
+      ProjectCache cache,
+      ProjectAccess access,
+      ApplicationEventPublisher events,
+      TransactionTemplate tx
+  ) {
     this.projects = projects;
+    this.summaries = summaries;
+    this.cache = cache;
+    this.access = access;
+    this.events = events;
+    this.tx = tx;
   }
 
   @GetMapping
-  public ResponseEntity<List<ProjectResponse>> list(@AuthenticationPrincipal UserDetails user) {
-    List<ProjectResponse> out = projects
-        .findAllByOwnerEmailOrderByCreatedAtDesc(user.getUsername())
-        .stream()
-        .map(ProjectResponse::from)
-        .toList();
-
-    return ResponseEntity.ok(out);
+  public ResponseEntity<CursorPage<ProjectResponse>> list(
+      @AuthenticationPrincipal UserDetails user,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit,
+      WebRequest request
+  ) {
+    KeysetCursor after;
+    try {
+      after = KeysetCursor.decodeOrNull(cursor);
+    } catch (IllegalArgumentException e) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    int pageSize = CursorPage.clampLimit(limit);
+    String owner = user.getUsername();
+
+    // 304 straight from the version query, before any page is loaded
+    ListVersion version = projects.findListVersion(owner);
+    String etag = ETags.weak(version, cursor, pageSize);
+    if (request.checkNotModified(etag)) return null;
+
+    if (after == null && pageSize == CursorPage.DEFAULT_LIMIT) {
+      return ResponseEntity.ok().eTag(etag).body(cache.firstPage(owner, version, () -> loadPage(owner, null, pageSize)));
+    }
+    return ResponseEntity.ok().eTag(etag).body(loadPage(owner, after, pageSize));
+  }
+
+  // per-project status + overdue counts for the caller, from the trigger-maintained counters
+  @GetMapping("/summary")
+  public ResponseEntity<List<ProjectSummary>> summary(@AuthenticationPrincipal UserDetails user) {
+    return ResponseEntity.ok(summaries.findByOwner(user.getUsername()));
   }
 
   @GetMapping("/{projectId}")
@@ -39,10 +90,13 @@ public class ProjectController {
       @AuthenticationPrincipal UserDetails user,
       @PathVariable UUID projectId
   ) {
-    Project p = projects.findByIdAndOwnerEmail(projectId, user.getUsername())
+    // workspace members read shared projects too; the cache stays keyed by owner
+    String owner = access.requireRead(projectId, user.getUsername()).ownerEmail();
+    ProjectResponse p = cache.getOne(owner, projectId)
         .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
 
-    return ResponseEntity.ok(ProjectResponse.from(p));
+    // If-None-Match is evaluated against this header, a match is written as 304 without a body
+    return ResponseEntity.ok().eTag(ETags.strong(p.updatedAt())).body(p);
   }
 
   @PostMapping
@@ -56,42 +110,54 @@ public class ProjectController {
         .ownerEmail(user.getUsername())
         .build();
 
-    Project saved = projects.save(p);
-    return ResponseEntity.status(HttpStatus.CREATED).body(ProjectResponse.from(saved));
+    ProjectResponse saved = ProjectResponse.from(projects.save(p));
+    cache.written(user.getUsername(), saved);
+    events.publishEvent(ProjectEvent.created(user.getUsername(), saved));
+    return ResponseEntity.status(HttpStatus.CREATED).body(saved);
   }
 
   @PatchMapping("/{projectId}")
   public ResponseEntity<ProjectResponse> update(
       @AuthenticationPrincipal UserDetails user,
       @PathVariable UUID projectId,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
       @RequestBody UpdateProjectRequest req
   ) {
-    Project p = projects.findByIdAndOwnerEmail(projectId, user.getUsername())
-        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
-
-    boolean changed = false;
-
+    String name = null;
     if (req.getName() != null) {
-      String name = req.getName().trim();
+      name = req.getName().trim();
       if (name.isEmpty()) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "name cannot be blank");
       if (name.length() < 2 || name.length() > 160) {
         throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "name must be 2-160 characters");
       }
-      p.setName(name);
-      changed = true;
-    }
-
-    if (req.getDescription() != null) {
-      p.setDescription(req.getDescription());
-      changed = true;
     }
 
-    if (!changed) {
+    if (name == null && req.getDescription() == null) {
       throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No updatable fields provided");
     }
 
-    Project saved = projects.save(p);
-    return ResponseEntity.ok(ProjectResponse.from(saved));
+    List<OffsetDateTime> expected = ETags.expectedVersions(ifMatch);
+    String newName = name;
+
+    // with If-Match the row is locked between the version check and the write
+    ProjectResponse saved = tx.execute(status -> {
+      Project p = (expected == null
+          ? projects.findByIdAndOwnerEmail(projectId, user.getUsername())
+          : projects.lockByIdAndOwnerEmail(projectId, user.getUsername()))
+          .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+
+      if (!ETags.matches(expected, p.getUpdatedAt())) {
+        throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "project was modified");
+      }
+
+      if (newName != null) p.setName(newName);
+      if (req.getDescription() != null) p.setDescription(req.getDescription());
+      return ProjectResponse.from(projects.saveAndFlush(p));
+    });
+
+    cache.written(user.getUsername(), saved);
+    events.publishEvent(ProjectEvent.updated(user.getUsername(), saved));
+    return ResponseEntity.ok().eTag(ETags.strong(saved.updatedAt())).body(saved);
   }
 
   @DeleteMapping("/{projectId}")
@@ -103,9 +169,22 @@ public class ProjectController {
         .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
 
     projects.delete(p);
+    cache.deleted(user.getUsername(), projectId);
+    access.evict(projectId);
+    events.publishEvent(ProjectEvent.deleted(user.getUsername(), projectId));
     return ResponseEntity.noContent().build();
   }
 
+  private CursorPage<ProjectResponse> loadPage(String owner, KeysetCursor after, int pageSize) {
+    PageRequest fetch = PageRequest.of(0, pageSize + 1);
+
+    List<ProjectResponse> rows = (after == null)
+        ? projects.findFirstPage(owner, fetch)
+        : projects.findPageAfter(owner, after.createdAt(), after.id(), fetch);
+
+    return CursorPage.of(rows, pageSize, p -> new KeysetCursor(p.createdAt(), p.id()));
+  }
+
   public static class CreateProjectRequest {
     @NotBlank
     @Size(min = 2, max = 160)
@@ -0,0 +1,28 @@
+package com.teamops.api.project;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+// Published (Spring application event) by every project write path
+public record ProjectEvent(
+    Type type,
+    UUID projectId,
+    String ownerEmail,
+    ProjectResponse project, // null for DELETED
+    OffsetDateTime at
+) {
+  public enum Type { CREATED, UPDATED, DELETED }
+
+  public static ProjectEvent created(String ownerEmail, ProjectResponse p) {
+    return new ProjectEvent(Type.CREATED, p.id(), ownerEmail, p, OffsetDateTime.now(ZoneOffset.UTC));
+  }
+
+  public static ProjectEvent updated(String ownerEmail, ProjectResponse p) {
+    return new ProjectEvent(Type.UPDATED, p.id(), ownerEmail, p, OffsetDateTime.now(ZoneOffset.UTC));
+  }
+
+  public static ProjectEvent deleted(String ownerEmail, UUID projectId) {
+    return new ProjectEvent(Type.DELETED, projectId, ownerEmail, null, OffsetDateTime.now(ZoneOffset.UTC));
+  }
+}
@@ -0,0 +1,6 @@
+package com.teamops.api.project;
+
+import java.util.UUID;
+
+// just enough of a project to authorize access to it
+public record ProjectRef(UUID id, String ownerEmail, UUID workspaceId) {}
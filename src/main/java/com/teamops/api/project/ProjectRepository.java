@@ -1,14 +1,110 @@
 package com.teamops.api.project;
 
+import com.teamops.api.common.ListVersion;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface ProjectRepository extends JpaRepository<Project, UUID> {
 
-  List<Project> findAllByOwnerEmailOrderByCreatedAtDesc(String ownerEmail);
-
   Optional<Project> findByIdAndOwnerEmail(UUID id, String ownerEmail);
+
+  // who may touch a project: its owner, plus members of the workspace it is shared with
+  @Transactional(readOnly = true)
+  @Query("select new com.teamops.api.project.ProjectRef(p.id, p.ownerEmail, p.workspaceId) from Project p where p.id = :id")
+  Optional<ProjectRef> findRef(@Param("id") UUID id);
+
+  // share with a workspace (or unshare with null); only the owner can move a project
+  @Modifying
+  @Transactional
+  @Query("update Project p set p.workspaceId = :workspaceId where p.id = :id and p.ownerEmail = :ownerEmail")
+  int updateWorkspace(
+      @Param("id") UUID id,
+      @Param("ownerEmail") String ownerEmail,
+      @Param("workspaceId") UUID workspaceId
+  );
+
+  // row lock for read-check-write sequences (If-Match on PATCH); caller owns the transaction
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select p from Project p where p.id = :id and p.ownerEmail = :ownerEmail")
+  Optional<Project> lockByIdAndOwnerEmail(@Param("id") UUID id, @Param("ownerEmail") String ownerEmail);
+
+  // list ETag input: count + newest change, no row payload loaded
+  @Transactional(readOnly = true)
+  @Query("""
+      select new com.teamops.api.common.ListVersion(count(p), max(p.updatedAt))
+      from Project p
+      where p.ownerEmail = :ownerEmail
+      """)
+  ListVersion findListVersion(@Param("ownerEmail") String ownerEmail);
+
+  // Read-only projections: selected straight into ProjectResponse, never managed/dirty-checked
+
+  @Transactional(readOnly = true)
+  @Query("""
+      select new com.teamops.api.project.ProjectResponse(p.id, p.name, p.description, p.createdAt, p.updatedAt)
+      from Project p
+      where p.id = :id and p.ownerEmail = :ownerEmail
+      """)
+  Optional<ProjectResponse> findResponse(@Param("id") UUID id, @Param("ownerEmail") String ownerEmail);
+
+  @Transactional(readOnly = true)
+  @Query("""
+      select new com.teamops.api.project.ProjectResponse(p.id, p.name, p.description, p.createdAt, p.updatedAt)
+      from Project p
+      where p.ownerEmail = :ownerEmail
+      order by p.createdAt desc, p.id desc
+      """)
+  List<ProjectResponse> findFirstPage(@Param("ownerEmail") String ownerEmail, Pageable page);
+
+  @Transactional(readOnly = true)
+  @Query("""
+      select new com.teamops.api.project.ProjectResponse(p.id, p.name, p.description, p.createdAt, p.updatedAt)
+      from Project p
+      where p.ownerEmail = :ownerEmail
+        and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id))
+      order by p.createdAt desc, p.id desc
+      """)
+  List<ProjectResponse> findPageAfter(
+      @Param("ownerEmail") String ownerEmail,
+      @Param("createdAt") OffsetDateTime createdAt,
+      @Param("id") UUID id,
+      Pageable page
+  );
+
+  // projects shared with a workspace, same keyset as the owner listing (idx_projects_workspace_created)
+
+  @Transactional(readOnly = true)
+  @Query("""
+      select new com.teamops.api.project.ProjectResponse(p.id, p.name, p.description, p.createdAt, p.updatedAt)
+      from Project p
+      where p.workspaceId = :workspaceId
+      order by p.createdAt desc, p.id desc
+      """)
+  List<ProjectResponse> findWorkspaceFirstPage(@Param("workspaceId") UUID workspaceId, Pageable page);
+
+  @Transactional(readOnly = true)
+  @Query("""
+      select new com.teamops.api.project.ProjectResponse(p.id, p.name, p.description, p.createdAt, p.updatedAt)
+      from Project p
+      where p.workspaceId = :workspaceId
+        and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id))
+      order by p.createdAt desc, p.id desc
+      """)
+  List<ProjectResponse> findWorkspacePageAfter(
+      @Param("workspaceId") UUID workspaceId,
+      @Param("createdAt") OffsetDateTime createdAt,
+      @Param("id") UUID id,
+      Pageable page
+  );
 }
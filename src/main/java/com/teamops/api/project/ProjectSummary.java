@@ -0,0 +1,13 @@
+package com.teamops.api.project;
+
+import java.util.UUID;
+
+public record ProjectSummary(
+    UUID projectId,
+    String name,
+    long todo,
+    long inProgress,
+    long done,
+    long total,
+    long overdue
+) {}
@@ -0,0 +1,119 @@
+package com.teamops.api.project;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+// Reads and repairs project_task_counters (kept current by triggers on tasks, see V8).
+@Repository
+public class ProjectSummaryRepository {
+
+  private static final RowMapper<ProjectSummary> ROW_MAPPER = (rs, rowNum) -> {
+    long todo = rs.getLong("todo_count");
+    long inProgress = rs.getLong("in_progress_count");
+    long done = rs.getLong("done_count");
+    return new ProjectSummary(
+        rs.getObject("id", UUID.class),
+        rs.getString("name"),
+        todo,
+        inProgress,
+        done,
+        todo + inProgress + done,
+        rs.getLong("overdue")
+    );
+  };
+
+  private final NamedParameterJdbcTemplate jdbc;
+
+  public ProjectSummaryRepository(NamedParameterJdbcTemplate jdbc) {
+    this.jdbc = jdbc;
+  }
+
+  public List<ProjectSummary> findByOwner(String ownerEmail) {
+    // status counts are a PK lookup per project; only overdue touches tasks (idx_tasks_owner_open_due)
+    return jdbc.query("""
+        select p.id, p.name,
+               coalesce(c.todo_count, 0) as todo_count,
+               coalesce(c.in_progress_count, 0) as in_progress_count,
+               coalesce(c.done_count, 0) as done_count,
+               coalesce(o.overdue, 0) as overdue
+        from projects p
+        left join project_task_counters c on c.project_id = p.id
+        left join (
+          select t.project_id, count(*) as overdue
+          from tasks t
+          where t.owner_email = :ownerEmail
+            and t.status <> 'DONE'
+            and t.due_at is not null
+            and t.due_at < now()
+          group by t.project_id
+        ) o on o.project_id = p.id
+        where p.owner_email = :ownerEmail
+        order by p.created_at desc, p.id desc
+        """, new MapSqlParameterSource("ownerEmail", ownerEmail), ROW_MAPPER);
+  }
+
+  public List<UUID> findProjectIdsAfter(UUID after, int limit) {
+    MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+    String sql = "select id from projects";
+    if (after != null) {
+      sql += " where id > :after";
+      params.addValue("after", after);
+    }
+    return jdbc.queryForList(sql + " order by id limit :limit", params, UUID.class);
+  }
+
+  // Must run inside a transaction. Locking the counter rows first makes concurrent task writes
+  // (whose triggers upsert the same rows) wait, so the recount can't miss or double-count them.
+  public int reconcile(List<UUID> projectIds) {
+    MapSqlParameterSource params = new MapSqlParameterSource("ids", projectIds);
+
+    jdbc.update("""
+        insert into project_task_counters (project_id)
+        select id from projects where id in (:ids)
+        on conflict (project_id) do nothing
+        """, params);
+
+    jdbc.query("""
+        select project_id from project_task_counters
+        where project_id in (:ids)
+        order by project_id
+        for update
+        """, params, rs -> {});
+
+    return jdbc.update("""
+        update project_task_counters c set
+          todo_count = a.todo,
+          in_progress_count = a.in_progress,
+          done_count = a.done,
+          updated_at = now()
+        from (
+          select p.id as project_id,
+                 count(t.id) filter (where t.status = 'TODO') as todo,
+                 count(t.id) filter (where t.status = 'IN_PROGRESS') as in_progress,
+                 count(t.id) filter (where t.status = 'DONE') as done
+          from projects p
+          left join tasks t on t.project_id = p.id
+          where p.id in (:ids)
+          group by p.id
+        ) a
+        where c.project_id = a.project_id
+          and (c.todo_count, c.in_progress_count, c.done_count)
+              is distinct from (a.todo, a.in_progress, a.done)
+        """, params);
+  }
+
+  // held per batch and released at commit; if another node holds it, that node is already reconciling
+  public boolean tryReconcileLock() {
+    Boolean locked = jdbc.queryForObject(
+        "select pg_try_advisory_xact_lock(hashtext('project_task_counters_reconcile'))",
+        new MapSqlParameterSource(),
+        Boolean.class
+    );
+    return Boolean.TRUE.equals(locked);
+  }
+}
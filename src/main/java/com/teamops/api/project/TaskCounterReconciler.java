@@ -0,0 +1,66 @@
+package com.teamops.api.project;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+// Triggers keep the counters exact, but anything that bypasses them (manual SQL, a restore,
+// a disabled trigger) leaves drift behind. This walks all projects in small batches and
+// rewrites only rows that disagree with the tasks table.
+@Component
+public class TaskCounterReconciler {
+
+  private static final Logger log = LoggerFactory.getLogger(TaskCounterReconciler.class);
+
+  private final ProjectSummaryRepository summaries;
+  private final TransactionTemplate tx;
+  private final int batchSize;
+  private final Counter repaired;
+
+  public TaskCounterReconciler(
+      ProjectSummaryRepository summaries,
+      TransactionTemplate tx,
+      MeterRegistry registry,
+      @Value("${app.counters.reconcile-batch-size:500}") int batchSize
+  ) {
+    this.summaries = summaries;
+    this.tx = tx;
+    this.batchSize = batchSize;
+    this.repaired = Counter.builder("counters.reconciled")
+        .description("project_task_counters rows corrected by the reconcile job")
+        .register(registry);
+  }
+
+  @Scheduled(
+      initialDelayString = "${app.counters.reconcile-initial-delay:PT2M}",
+      fixedDelayString = "${app.counters.reconcile-interval:PT30M}"
+  )
+  public void reconcileAll() {
+    UUID after = null;
+    int fixed = 0;
+
+    while (true) {
+      List<UUID> batch = summaries.findProjectIdsAfter(after, batchSize);
+      if (batch.isEmpty()) break;
+
+      Integer n = tx.execute(status -> summaries.tryReconcileLock() ? summaries.reconcile(batch) : null);
+      if (n == null) {
+        log.debug("counter reconcile already running on another node, skipping");
+        return;
+      }
+      fixed += n;
+      after = batch.get(batch.size() - 1);
+    }
+
+    repaired.increment(fixed);
+    if (fixed > 0) log.warn("counter reconcile corrected {} project(s)", fixed);
+  }
+}
@@ -0,0 +1,44 @@
+package com.teamops.api.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+// Token buckets in this JVM. Used as the MEMORY backend and as the fallback for REDIS.
+public class LocalRateLimiter implements RateLimiter {
+
+  private final Cache<String, Bucket> buckets = Caffeine.newBuilder()
+      .maximumSize(200_000)
+      .expireAfterAccess(Duration.ofMinutes(15))
+      .build();
+
+  @Override
+  public Decision tryAcquire(String key, RateLimitProperties.Limit limit) {
+    Bucket bucket = buckets.get(key, k -> new Bucket(limit.getCapacity(), System.nanoTime()));
+    return bucket.take(limit, System.nanoTime());
+  }
+
+  private static final class Bucket {
+    private double tokens;
+    private long lastNanos;
+
+    Bucket(double tokens, long now) {
+      this.tokens = tokens;
+      this.lastNanos = now;
+    }
+
+    synchronized Decision take(RateLimitProperties.Limit limit, long now) {
+      double perNano = limit.getRefillPerSecond() / 1e9;
+      tokens = Math.min(limit.getCapacity(), tokens + (now - lastNanos) * perNano);
+      lastNanos = now;
+
+      if (tokens >= 1) {
+        tokens -= 1;
+        return new Decision(true, (long) tokens, Duration.ZERO);
+      }
+      long waitNanos = (long) Math.ceil((1 - tokens) / perNano);
+      return new Decision(false, 0, Duration.ofNanos(waitNanos));
+    }
+  }
+}
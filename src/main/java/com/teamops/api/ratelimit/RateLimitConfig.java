@@ -0,0 +1,34 @@
+package com.teamops.api.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+  @Bean
+  public RateLimiter rateLimiter(
+      RateLimitProperties props,
+      ObjectProvider<StringRedisTemplate> redis,
+      MeterRegistry registry
+  ) {
+    return switch (props.getBackend()) {
+      case MEMORY -> new LocalRateLimiter();
+      case REDIS -> new RedisRateLimiter(redis.getObject(), new LocalRateLimiter(), props.getRedisRetryAfter(), registry);
+    };
+  }
+
+  // only runs inside the security chain (see SecurityConfig)
+  @Bean
+  public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter filter) {
+    FilterRegistrationBean<RateLimitFilter> reg = new FilterRegistrationBean<>(filter);
+    reg.setEnabled(false);
+    return reg;
+  }
+}
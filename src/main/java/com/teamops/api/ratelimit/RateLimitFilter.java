@@ -0,0 +1,197 @@
+package com.teamops.api.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Locale;
+
+// Runs right after JwtAuthFilter so writes can be keyed by user. Reads never touch a bucket.
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  private static final URI ABOUT_BLANK = URI.create("about:blank");
+  // a login body is an email and a password; anything bigger is refused before it is buffered
+  private static final int MAX_LOGIN_BODY = 8 * 1024;
+
+  private final RateLimiter limiter;
+  private final RateLimitProperties props;
+  private final ObjectMapper mapper;
+  private final Counter authLimited;
+  private final Counter writesLimited;
+
+  public RateLimitFilter(RateLimiter limiter, RateLimitProperties props, ObjectMapper mapper, MeterRegistry registry) {
+    this.limiter = limiter;
+    this.props = props;
+    this.mapper = mapper;
+    this.authLimited = registry.counter("ratelimit.limited", "group", "auth");
+    this.writesLimited = registry.counter("ratelimit.limited", "group", "writes");
+  }
+
+  @Override
+  protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+    if (!props.isEnabled()) return true;
+    String method = request.getMethod();
+    return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) || HttpMethod.OPTIONS.matches(method);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain
+  ) throws ServletException, IOException {
+
+    String path = request.getServletPath();
+    RateLimiter.Decision decision = null;
+    Counter limited = null;
+
+    if (path.equals("/auth/login") || path.equals("/auth/register")) {
+      decision = limiter.tryAcquire("auth:ip:" + request.getRemoteAddr(), props.getAuth());
+      limited = authLimited;
+
+      if (decision.allowed() && path.equals("/auth/login")) {
+        byte[] body = request.getInputStream().readNBytes(MAX_LOGIN_BODY + 1);
+        if (body.length > MAX_LOGIN_BODY) {
+          response.sendError(HttpStatus.PAYLOAD_TOO_LARGE.value());
+          return;
+        }
+        request = new CachedBodyRequest(request, body);
+        // unreadable bodies get a 400 from the controller, so they never reach a password check
+        String email = loginEmail(body);
+        if (email != null) decision = limiter.tryAcquire("auth:email:" + email, props.getAuthEmail());
+      }
+    } else if (path.startsWith("/api/")) {
+      decision = limiter.tryAcquire("writes:" + caller(request), props.getWrites());
+      limited = writesLimited;
+    }
+
+    if (decision != null && !decision.allowed()) {
+      limited.increment();
+      reject(request, response, decision);
+      return;
+    }
+
+    filterChain.doFilter(request, response);
+  }
+
+  // same normalization as AuthController.login, plus trim so padding can't mint a fresh bucket
+  private String loginEmail(byte[] body) {
+    try {
+      JsonNode email = mapper.readTree(body).get("email");
+      if (email == null || !email.isTextual() || email.asText().isBlank()) return null;
+      return email.asText().trim().toLowerCase(Locale.ROOT);
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  // unauthenticated writes are rejected later anyway, but still count against their IP
+  private static String caller(HttpServletRequest request) {
+    Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+    if (auth != null && auth.isAuthenticated() && auth.getName() != null) return "user:" + auth.getName();
+    return "ip:" + request.getRemoteAddr();
+  }
+
+  // same body shape as ApiExceptionHandler; this runs before MVC so it can't throw into it
+  private void reject(HttpServletRequest request, HttpServletResponse response, RateLimiter.Decision decision)
+      throws IOException {
+    long seconds = Math.max(1, (decision.retryAfter().toMillis() + 999) / 1000);
+
+    ProblemDetail pd = ProblemDetail.forStatus(HttpStatus.TOO_MANY_REQUESTS);
+    pd.setType(ABOUT_BLANK);
+    pd.setTitle(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase());
+    pd.setDetail("Rate limit exceeded, retry in " + seconds + "s.");
+    pd.setProperty("timestamp", OffsetDateTime.now().toString());
+    pd.setProperty("path", request.getRequestURI());
+
+    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+    response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+    mapper.writeValue(response.getOutputStream(), pd);
+  }
+
+  // replays a body this filter already read, so @RequestBody still sees it
+  private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+    private final byte[] body;
+
+    CachedBodyRequest(HttpServletRequest request, byte[] body) {
+      super(request);
+      this.body = body;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+      ByteArrayInputStream in = new ByteArrayInputStream(body);
+      return new ServletInputStream() {
+        @Override
+        public int read() {
+          return in.read();
+        }
+
+        @Override
+        public int read(@NonNull byte[] b, int off, int len) {
+          return in.read(b, off, len);
+        }
+
+        @Override
+        public boolean isFinished() {
+          return in.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+          return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener listener) {
+          throw new UnsupportedOperationException();
+        }
+      };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+      String enc = getCharacterEncoding();
+      return new BufferedReader(new InputStreamReader(getInputStream(),
+          enc != null ? Charset.forName(enc) : StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public int getContentLength() {
+      return body.length;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+      return body.length;
+    }
+  }
+}
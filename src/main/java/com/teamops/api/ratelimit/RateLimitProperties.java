@@ -0,0 +1,56 @@
+package com.teamops.api.ratelimit;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+  // MEMORY: per node. REDIS: shared across nodes, falls back to MEMORY while Redis is unreachable.
+  public enum Backend { MEMORY, REDIS }
+
+  private boolean enabled = true;
+  private Backend backend = Backend.MEMORY;
+
+  // after a Redis error, stay on the local buckets this long before trying Redis again
+  private Duration redisRetryAfter = Duration.ofSeconds(5);
+
+  // POST /auth/login, /auth/register - per client IP
+  @Valid @NotNull
+  private Limit auth = new Limit(10, 0.2);
+
+  // POST /auth/login - per target email, so spreading guesses over many IPs doesn't help
+  @Valid @NotNull
+  private Limit authEmail = new Limit(10, 0.05);
+
+  // POST/PUT/PATCH/DELETE under /api - per user
+  @Valid @NotNull
+  private Limit writes = new Limit(60, 10);
+
+  // both bucket implementations divide by the refill rate, so a zero here fails startup
+  @Getter
+  @Setter
+  public static class Limit {
+    @Positive
+    private int capacity;
+    @Positive
+    private double refillPerSecond;
+
+    public Limit() {}
+
+    public Limit(int capacity, double refillPerSecond) {
+      this.capacity = capacity;
+      this.refillPerSecond = refillPerSecond;
+    }
+  }
+}
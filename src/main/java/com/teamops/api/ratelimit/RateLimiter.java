@@ -0,0 +1,11 @@
+package com.teamops.api.ratelimit;
+
+import java.time.Duration;
+
+public interface RateLimiter {
+
+  record Decision(boolean allowed, long remaining, Duration retryAfter) {}
+
+  // takes one token from the bucket identified by key
+  Decision tryAcquire(String key, RateLimitProperties.Limit limit);
+}
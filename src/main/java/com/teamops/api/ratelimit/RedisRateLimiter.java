@@ -0,0 +1,101 @@
+package com.teamops.api.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+// One EVALSHA per decision; refill and take happen atomically inside Redis using the server
+// clock, so nodes with skewed clocks still share one bucket. While Redis is failing, decisions
+// are made by the local buckets and Redis is retried after redisRetryAfter.
+public class RedisRateLimiter implements RateLimiter {
+
+  private static final Logger log = LoggerFactory.getLogger(RedisRateLimiter.class);
+
+  // KEYS[1] bucket hash; ARGV[1] capacity, ARGV[2] tokens/second. Returns {allowed, remaining, retryMs}.
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> TOKEN_BUCKET = RedisScript.of("""
+      local t = redis.call('TIME')
+      local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+      local capacity = tonumber(ARGV[1])
+      local perMs = tonumber(ARGV[2]) / 1000
+
+      local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+      local tokens = tonumber(state[1])
+      local ts = tonumber(state[2])
+      if tokens == nil or ts == nil then
+        tokens = capacity
+        ts = now
+      end
+      tokens = math.min(capacity, tokens + math.max(0, now - ts) * perMs)
+
+      local allowed = 0
+      local retry = 0
+      if tokens >= 1 then
+        tokens = tokens - 1
+        allowed = 1
+      else
+        retry = math.ceil((1 - tokens) / perMs)
+      end
+
+      redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+      redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / perMs) + 1000)
+      return { allowed, math.floor(tokens), retry }
+      """, List.class);
+
+  private static final String PREFIX = "teamops:rl:";
+
+  private final StringRedisTemplate redis;
+  private final RateLimiter fallback;
+  private final long retryAfterNanos;
+  private final Counter fallbacks;
+
+  private volatile boolean redisDown;
+  private volatile long retryRedisAt;
+
+  public RedisRateLimiter(StringRedisTemplate redis, RateLimiter fallback, Duration retryAfter, MeterRegistry registry) {
+    this.redis = redis;
+    this.fallback = fallback;
+    this.retryAfterNanos = retryAfter.toNanos();
+    this.fallbacks = Counter.builder("ratelimit.fallback")
+        .description("Decisions made locally because Redis was unavailable")
+        .register(registry);
+  }
+
+  @Override
+  public Decision tryAcquire(String key, RateLimitProperties.Limit limit) {
+    if (redisDown && System.nanoTime() - retryRedisAt < 0) {
+      fallbacks.increment();
+      return fallback.tryAcquire(key, limit);
+    }
+
+    try {
+      List<?> r = redis.execute(
+          TOKEN_BUCKET,
+          List.of(PREFIX + key),
+          Integer.toString(limit.getCapacity()),
+          Double.toString(limit.getRefillPerSecond())
+      );
+      if (redisDown) {
+        redisDown = false;
+        log.info("rate limiter back on Redis");
+      }
+      return new Decision(
+          ((Number) r.get(0)).longValue() == 1,
+          ((Number) r.get(1)).longValue(),
+          Duration.ofMillis(((Number) r.get(2)).longValue())
+      );
+    } catch (RuntimeException e) {
+      if (!redisDown) log.warn("rate limiter falling back to local buckets: {}", e.getMessage());
+      retryRedisAt = System.nanoTime() + retryAfterNanos;
+      redisDown = true;
+      fallbacks.increment();
+      return fallback.tryAcquire(key, limit);
+    }
+  }
+}
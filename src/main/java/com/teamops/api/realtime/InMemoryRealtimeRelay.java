@@ -0,0 +1,26 @@
+package com.teamops.api.realtime;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// Single-JVM relay: used for single-node setups and to wire several "nodes" together in tests
+public class InMemoryRealtimeRelay implements RealtimeRelay {
+
+  private final List<Consumer<RealtimeEvent>> listeners = new CopyOnWriteArrayList<>();
+
+  // seeded from the clock so ids from a previous process are always older than ours
+  private long sequence = System.currentTimeMillis() * 1000;
+
+  // numbering and delivery under one lock keeps every listener in id order
+  @Override
+  public synchronized void publish(RealtimeEvent event) {
+    RealtimeEvent numbered = event.withId(++sequence);
+    for (Consumer<RealtimeEvent> l : listeners) l.accept(numbered);
+  }
+
+  @Override
+  public void subscribe(Consumer<RealtimeEvent> listener) {
+    listeners.add(listener);
+  }
+}
@@ -0,0 +1,19 @@
+package com.teamops.api.realtime;
+
+import com.teamops.api.project.ProjectEvent;
+import com.teamops.api.project.ProjectResponse;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+// Wire form of a ProjectEvent (no owner email)
+public record ProjectEventMessage(
+    String type,
+    UUID projectId,
+    ProjectResponse project,
+    OffsetDateTime at
+) {
+  public static ProjectEventMessage from(ProjectEvent e) {
+    return new ProjectEventMessage(e.type().name(), e.projectId(), e.project(), e.at());
+  }
+}
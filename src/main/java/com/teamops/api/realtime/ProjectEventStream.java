@@ -0,0 +1,214 @@
+package com.teamops.api.realtime;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+// Per-project SSE fan-out of the events every node receives from the RealtimeRelay. Ids are the
+// relay's cluster-wide ids, so Last-Event-ID means the same thing on whichever node a client
+// reconnects to. Each project keeps a ring of recent events so a client reconnecting with
+// Last-Event-ID only gets what it missed. Each connection is served by its own virtual
+// thread draining a bounded queue: idle connections cost no platform thread, and a client that
+// stops reading fills its queue and is dropped without slowing anybody else.
+@Component
+public class ProjectEventStream implements DisposableBean {
+
+  record StreamEvent(long id, String name, Object data) {}
+
+  private final RealtimeProperties props;
+  private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+  private final Cache<UUID, Channel> channels;
+
+  // highest relay id seen (the relay delivers in id order). Guarded by this: creating or joining a
+  // channel and publishing to it are serialized, so a subscriber can't fall between replay and live.
+  private long lastSeen;
+
+  private final Counter dropped;
+
+  public ProjectEventStream(RealtimeProperties props, RealtimeRelay relay, MeterRegistry registry) {
+    if (props.getSseQueueCapacity() <= props.getSseReplayBufferSize()) {
+      throw new IllegalStateException("app.realtime.sse-queue-capacity must be larger than sse-replay-buffer-size");
+    }
+    this.props = props;
+    this.channels = Caffeine.newBuilder()
+        .maximumSize(props.getSseMaxProjects())
+        .expireAfterAccess(Duration.ofHours(1))
+        // an evicted channel's clients reconnect and get a reset instead of silently missing events
+        .removalListener((UUID id, Channel ch, RemovalCause cause) -> {
+          if (ch != null && cause.wasEvicted()) ch.closeAll();
+        })
+        .build();
+    this.dropped = Counter.builder("realtime.sse.dropped")
+        .description("SSE connections closed because the client could not keep up")
+        .register(registry);
+    relay.subscribe(this::on);
+  }
+
+  public SseEmitter subscribe(UUID projectId, Long lastEventId) {
+    SseEmitter emitter = new SseEmitter(props.getSseTimeout().toMillis());
+    Subscriber sub = new Subscriber(emitter, props.getSseQueueCapacity());
+
+    Channel ch;
+    synchronized (this) {
+      ch = channels.get(projectId, id -> new Channel(props.getSseReplayBufferSize(), lastSeen));
+      ch.attach(sub, lastEventId);
+    }
+
+    emitter.onCompletion(() -> ch.detach(sub));
+    emitter.onTimeout(() -> ch.detach(sub));
+    emitter.onError(e -> ch.detach(sub));
+
+    senders.execute(sub);
+    return emitter;
+  }
+
+  synchronized void on(RealtimeEvent e) {
+    lastSeen = e.id();
+
+    // history is only kept for projects someone has streamed recently (clients between
+    // reconnects included, thanks to expireAfterAccess)
+    Channel ch = channels.getIfPresent(e.projectId());
+    if (ch == null) return;
+
+    boolean last = "project.deleted".equals(e.name());
+    ch.publish(new StreamEvent(e.id(), e.name(), e.data()), last);
+    if (last) channels.invalidate(e.projectId());
+  }
+
+  @Override
+  public void destroy() {
+    for (Channel ch : channels.asMap().values()) ch.closeAll();
+    senders.shutdownNow();
+  }
+
+  private final class Channel {
+    private final int capacity;
+    private final ArrayDeque<StreamEvent> recent;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // every id <= this is unknown to this channel (dropped from `recent`, or before it existed)
+    private long forgottenUpTo;
+
+    Channel(int capacity, long forgottenUpTo) {
+      this.capacity = capacity;
+      this.recent = new ArrayDeque<>(capacity);
+      this.forgottenUpTo = forgottenUpTo;
+    }
+
+    // replay snapshot and registration happen under the same lock as publish: no gaps, no dupes
+    synchronized void attach(Subscriber sub, Long lastEventId) {
+      if (lastEventId != null) {
+        long seen = lastSeen;
+        if (lastEventId < forgottenUpTo || lastEventId > seen) {
+          // too old, or ahead of what this node has received yet: the client has to refetch
+          sub.reset(seen);
+        } else {
+          for (StreamEvent e : recent) {
+            // a partial replay would look complete to the client
+            if (e.id() > lastEventId && !sub.offer(e)) {
+              sub.reset(seen);
+              break;
+            }
+          }
+        }
+      }
+      subscribers.add(sub);
+    }
+
+    void detach(Subscriber sub) {
+      subscribers.remove(sub);
+      sub.close();
+    }
+
+    synchronized void publish(StreamEvent e, boolean closeAfter) {
+      if (recent.size() == capacity) forgottenUpTo = recent.removeFirst().id();
+      recent.addLast(e);
+
+      List<Subscriber> slow = new ArrayList<>();
+      for (Subscriber s : subscribers) {
+        if (!s.offer(e)) slow.add(s);
+      }
+      for (Subscriber s : slow) {
+        dropped.increment();
+        detach(s);
+      }
+      if (closeAfter) closeAll();
+    }
+
+    void closeAll() {
+      for (Subscriber s : subscribers) s.finish();
+      subscribers.clear();
+    }
+  }
+
+  private final class Subscriber implements Runnable {
+    private final SseEmitter emitter;
+    private final BlockingQueue<StreamEvent> queue;
+    private volatile boolean closed;
+    private volatile boolean finishing;
+
+    Subscriber(SseEmitter emitter, int capacity) {
+      this.emitter = emitter;
+      this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    boolean offer(StreamEvent e) {
+      return queue.offer(e);
+    }
+
+    // only before the sender starts draining: replaces anything queued with a single reset
+    void reset(long id) {
+      queue.clear();
+      queue.offer(new StreamEvent(id, "reset", "resync required"));
+    }
+
+    // stop right away (client gone / too slow)
+    void close() {
+      if (closed) return;
+      closed = true;
+      emitter.complete();
+    }
+
+    // deliver what is queued, then end the stream
+    void finish() {
+      finishing = true;
+    }
+
+    @Override
+    public void run() {
+      long heartbeatMs = props.getSseHeartbeat().toMillis();
+      try {
+        while (!closed) {
+          StreamEvent e = queue.poll(heartbeatMs, TimeUnit.MILLISECONDS);
+          if (e != null) {
+            emitter.send(SseEmitter.event().id(Long.toString(e.id())).name(e.name()).data(e.data()));
+          } else if (finishing) {
+            break;
+          } else {
+            // keeps proxies from idling the connection out
+            emitter.send(SseEmitter.event().comment("keepalive"));
+          }
+        }
+      } catch (IOException | IllegalStateException e) {
+        // client went away
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        close();
+      }
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package com.teamops.api.realtime;
+
+import com.teamops.api.security.JwtService;
+import com.teamops.api.workspace.ProjectAccess;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+// SSE fallback for clients that can't use WebSockets; same events as the STOMP feed plus
+// project updates/deletes
+@RestController
+@RequestMapping("/api/projects/{projectId}/events")
+public class ProjectEventStreamController {
+
+  public record StreamTicket(String ticket) {}
+
+  private final ProjectAccess access;
+  private final ProjectEventStream stream;
+  private final JwtService jwt;
+
+  public ProjectEventStreamController(ProjectAccess access, ProjectEventStream stream, JwtService jwt) {
+    this.access = access;
+    this.stream = stream;
+    this.jwt = jwt;
+  }
+
+  // Browsers' EventSource can't send Authorization: fetch a short-lived ticket with the bearer
+  // token, then open /events?ticket=... A new EventSource can't send Last-Event-ID either, so
+  // ?lastEventId= is accepted as well; the header wins on the browser's own reconnects.
+  @PostMapping("/ticket")
+  public StreamTicket ticket(@AuthenticationPrincipal UserDetails user, @PathVariable UUID projectId) {
+    access.requireRead(projectId, user.getUsername());
+    return new StreamTicket(jwt.issueStreamTicket(user.getUsername(), projectId));
+  }
+
+  @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter events(
+      @AuthenticationPrincipal UserDetails user,
+      @PathVariable UUID projectId,
+      @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+      @RequestParam(value = "lastEventId", required = false) String lastEventIdParam
+  ) {
+    // owner or workspace member; 404 otherwise. Checked on every connect, tickets included.
+    access.requireRead(projectId, user.getUsername());
+
+    String lastEventId = lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam;
+
+    Long resumeFrom = null;
+    if (lastEventId != null && !lastEventId.isBlank()) {
+      try {
+        resumeFrom = Long.parseLong(lastEventId.trim());
+      } catch (NumberFormatException e) {
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid Last-Event-ID");
+      }
+    }
+
+    return stream.subscribe(projectId, resumeFrom);
+  }
+}
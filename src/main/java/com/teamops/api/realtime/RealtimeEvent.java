@@ -0,0 +1,32 @@
+package com.teamops.api.realtime;
+
+import com.teamops.api.project.ProjectEvent;
+import com.teamops.api.task.TaskEvent;
+
+import java.util.UUID;
+
+// One committed change as it travels between nodes. id is assigned by the RealtimeRelay and
+// increases across the whole cluster; exactly one of task / project is set.
+public record RealtimeEvent(
+    long id,
+    UUID projectId,
+    String name, // task.created, project.deleted, ...
+    TaskEventMessage task,
+    ProjectEventMessage project
+) {
+  public static RealtimeEvent of(TaskEvent e) {
+    return new RealtimeEvent(0, e.projectId(), "task." + e.type().name().toLowerCase(), TaskEventMessage.from(e), null);
+  }
+
+  public static RealtimeEvent of(ProjectEvent e) {
+    return new RealtimeEvent(0, e.projectId(), "project." + e.type().name().toLowerCase(), null, ProjectEventMessage.from(e));
+  }
+
+  public RealtimeEvent withId(long id) {
+    return new RealtimeEvent(id, projectId, name, task, project);
+  }
+
+  public Object data() {
+    return task != null ? task : project;
+  }
+}
@@ -0,0 +1,29 @@
+package com.teamops.api.realtime;
+
+import com.teamops.api.project.ProjectEvent;
+import com.teamops.api.task.TaskEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Hands committed changes to the relay; delivery to clients happens on every node from there
+@Component
+public class RealtimeEventPublisher {
+
+  private final RealtimeRelay relay;
+
+  public RealtimeEventPublisher(RealtimeRelay relay) {
+    this.relay = relay;
+  }
+
+  // after commit when published inside a transaction (bulk), immediately otherwise
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(TaskEvent e) {
+    relay.publish(RealtimeEvent.of(e));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(ProjectEvent e) {
+    if (e.type() == ProjectEvent.Type.CREATED) return; // nobody can be subscribed yet
+    relay.publish(RealtimeEvent.of(e));
+  }
+}
@@ -0,0 +1,32 @@
+package com.teamops.api.realtime;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.realtime")
+public class RealtimeProperties {
+
+  // Per-connection outbound buffer. A subscriber that can't drain it within send-time-limit
+  // is disconnected instead of holding memory (slow-consumer drop).
+  private int sendBufferSizeLimitBytes = 256 * 1024;
+  private Duration sendTimeLimit = Duration.ofSeconds(10);
+
+  // inbound frames are tiny (CONNECT/SUBSCRIBE), keep them that way
+  private int messageSizeLimitBytes = 16 * 1024;
+
+  private Duration heartbeat = Duration.ofSeconds(10);
+
+  // SSE (/api/projects/{projectId}/events)
+  private int sseReplayBufferSize = 256; // recent events kept per project for Last-Event-ID resume
+  // per-connection backlog before the client is dropped; larger than the replay buffer so a full
+  // replay still leaves room for live events
+  private int sseQueueCapacity = 512;
+  private Duration sseTimeout = Duration.ofMinutes(30); // clients reconnect with Last-Event-ID
+  private Duration sseHeartbeat = Duration.ofSeconds(15);
+  private long sseMaxProjects = 5_000; // replay buffers kept in memory
+}
@@ -0,0 +1,13 @@
+package com.teamops.api.realtime;
+
+import java.util.function.Consumer;
+
+// Fan-out of committed changes to every node, the publisher included, so each node can deliver
+// them to its own STOMP and SSE clients. The relay numbers events and every listener sees them
+// in id order. Delivery is best effort: clients that miss events resync through the REST API.
+public interface RealtimeRelay {
+
+  void publish(RealtimeEvent event);
+
+  void subscribe(Consumer<RealtimeEvent> listener);
+}
@@ -0,0 +1,25 @@
+package com.teamops.api.realtime;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamops.api.cache.CacheProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+@Configuration
+public class RealtimeRelayConfig {
+
+  // same rule as the cache invalidation bus: Redis whenever Redis is in use, otherwise one JVM
+  @Bean
+  public RealtimeRelay realtimeRelay(
+      CacheProperties cache,
+      ObjectProvider<RedisConnectionFactory> redis,
+      ObjectMapper mapper
+  ) {
+    return switch (cache.getStore()) {
+      case MEMORY -> new InMemoryRealtimeRelay();
+      case REDIS, TIERED -> new RedisRealtimeRelay(redis.getObject(), mapper);
+    };
+  }
+}
@@ -0,0 +1,112 @@
+package com.teamops.api.realtime;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// Redis pub/sub relay on one channel, payload is "id\n{json}". The id comes from a Redis counter
+// bumped in the same script that publishes, so ids are cluster-wide and every node receives the
+// events in id order. Own events come back through Redis too, which keeps that order on this node.
+public class RedisRealtimeRelay implements RealtimeRelay, SmartLifecycle, DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(RedisRealtimeRelay.class);
+  private static final String CHANNEL = "teamops:realtime:events";
+  private static final String SEQUENCE = "teamops:realtime:seq";
+
+  // KEYS[1] counter; ARGV[1] channel, ARGV[2] json. Returns the id.
+  private static final RedisScript<Long> PUBLISH = RedisScript.of("""
+      local id = redis.call('INCR', KEYS[1])
+      if id == 1 then
+        -- new or lost counter: restart above anything handed out before (microsecond clock)
+        local t = redis.call('TIME')
+        id = tonumber(t[1]) * 1000000 + tonumber(t[2])
+        redis.call('SET', KEYS[1], string.format('%d', id))
+      end
+      redis.call('PUBLISH', ARGV[1], string.format('%d', id) .. '\\n' .. ARGV[2])
+      return id
+      """, Long.class);
+
+  private final StringRedisTemplate redis;
+  private final ObjectMapper mapper;
+  private final RedisMessageListenerContainer container;
+  private final List<Consumer<RealtimeEvent>> listeners = new CopyOnWriteArrayList<>();
+  private volatile boolean running;
+
+  public RedisRealtimeRelay(RedisConnectionFactory factory, ObjectMapper mapper) {
+    this.redis = new StringRedisTemplate(factory);
+    this.mapper = mapper;
+    this.container = new RedisMessageListenerContainer();
+    this.container.setConnectionFactory(factory);
+    // the default executor hands each message to its own thread, which would reorder them;
+    // listeners only enqueue, so running them on the subscription thread is cheap
+    this.container.setTaskExecutor(new SyncTaskExecutor());
+    this.container.addMessageListener((message, pattern) -> receive(message.getBody()), new ChannelTopic(CHANNEL));
+    this.container.afterPropertiesSet();
+  }
+
+  @Override
+  public void publish(RealtimeEvent event) {
+    try {
+      redis.execute(PUBLISH, List.of(SEQUENCE), CHANNEL, mapper.writeValueAsString(event));
+    } catch (JsonProcessingException | RuntimeException e) {
+      // subscribers miss this one; they resync through the REST API
+      log.warn("realtime publish failed for project {}: {}", event.projectId(), e.getMessage());
+    }
+  }
+
+  @Override
+  public void subscribe(Consumer<RealtimeEvent> listener) {
+    listeners.add(listener);
+  }
+
+  private void receive(byte[] body) {
+    String payload = new String(body, StandardCharsets.UTF_8);
+    int nl = payload.indexOf('\n');
+    if (nl < 0) return;
+    RealtimeEvent event;
+    try {
+      event = mapper.readValue(payload.substring(nl + 1), RealtimeEvent.class)
+          .withId(Long.parseLong(payload.substring(0, nl)));
+    } catch (JsonProcessingException | NumberFormatException e) {
+      log.warn("dropping unreadable realtime event: {}", e.getMessage());
+      return;
+    }
+    for (Consumer<RealtimeEvent> l : listeners) l.accept(event);
+  }
+
+  @Override
+  public void start() {
+    container.start();
+    running = true;
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    container.stop();
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public void destroy() throws Exception {
+    container.destroy();
+  }
+}
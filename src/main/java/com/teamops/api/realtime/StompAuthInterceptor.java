@@ -0,0 +1,89 @@
+package com.teamops.api.realtime;
+
+import com.teamops.api.security.JwtService;
+import com.teamops.api.security.PrincipalCache;
+import com.teamops.api.workspace.ProjectAccess;
+import io.jsonwebtoken.JwtException;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.security.Principal;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Same JWT as JwtAuthFilter, presented once on the STOMP CONNECT frame
+@Component
+public class StompAuthInterceptor implements ChannelInterceptor {
+
+  private static final Pattern TASK_TOPIC = Pattern.compile("^/topic/projects/([0-9a-fA-F-]{36})/tasks$");
+
+  private final JwtService jwt;
+  private final PrincipalCache principals;
+  private final ProjectAccess access;
+
+  public StompAuthInterceptor(JwtService jwt, PrincipalCache principals, ProjectAccess access) {
+    this.jwt = jwt;
+    this.principals = principals;
+    this.access = access;
+  }
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    StompHeaderAccessor acc = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+    if (acc == null || acc.getCommand() == null) return message;
+
+    if (StompCommand.CONNECT.equals(acc.getCommand())) {
+      acc.setUser(authenticate(acc.getFirstNativeHeader("Authorization")));
+    } else if (StompCommand.SUBSCRIBE.equals(acc.getCommand())) {
+      authorizeSubscription(acc.getUser(), acc.getDestination());
+    } else if (StompCommand.SEND.equals(acc.getCommand())) {
+      // push-only channel
+      throw new AccessDeniedException("Clients cannot send messages");
+    }
+    return message;
+  }
+
+  private Principal authenticate(String header) {
+    if (header == null || !header.startsWith("Bearer ")) {
+      throw new AccessDeniedException("Missing bearer token");
+    }
+    try {
+      var claims = jwt.parse(header.substring("Bearer ".length()).trim()).getBody();
+      UserDetails user = principals.resolve(claims);
+      return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+    } catch (JwtException e) {
+      throw new AccessDeniedException("Invalid token");
+    }
+  }
+
+  private void authorizeSubscription(Principal user, String destination) {
+    if (user == null) throw new AccessDeniedException("Not authenticated");
+
+    Matcher m = (destination == null) ? null : TASK_TOPIC.matcher(destination);
+    if (m == null || !m.matches()) throw new AccessDeniedException("Unknown destination");
+
+    UUID projectId;
+    try {
+      projectId = UUID.fromString(m.group(1));
+    } catch (IllegalArgumentException e) {
+      throw new AccessDeniedException("Unknown destination");
+    }
+
+    // same 404-style answer for "not shared with you" and "doesn't exist"
+    try {
+      access.requireRead(projectId, user.getName());
+    } catch (ResponseStatusException e) {
+      throw new AccessDeniedException("Unknown destination");
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package com.teamops.api.realtime;
+
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+
+// Delivers task events from every node to the STOMP subscribers connected to this one
+@Component
+public class TaskEventBroadcaster {
+
+  private final SimpMessageSendingOperations broker;
+
+  public TaskEventBroadcaster(SimpMessageSendingOperations broker, RealtimeRelay relay) {
+    this.broker = broker;
+    relay.subscribe(this::on);
+  }
+
+  void on(RealtimeEvent e) {
+    if (e.task() == null) return;
+    broker.convertAndSend(topic(e.projectId().toString()), e.task());
+  }
+
+  private static String topic(String projectId) {
+    return "/topic/projects/" + projectId + "/tasks";
+  }
+}
@@ -0,0 +1,20 @@
+package com.teamops.api.realtime;
+
+import com.teamops.api.task.TaskEvent;
+import com.teamops.api.task.TaskResponse;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+// Wire form of a TaskEvent (no owner email)
+public record TaskEventMessage(
+    String type,
+    UUID projectId,
+    UUID taskId,
+    TaskResponse task,
+    OffsetDateTime at
+) {
+  public static TaskEventMessage from(TaskEvent e) {
+    return new TaskEventMessage(e.type().name(), e.projectId(), e.taskId(), e.task(), e.at());
+  }
+}
@@ -0,0 +1,69 @@
+package com.teamops.api.realtime;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+
+// STOMP over WebSocket at /ws. Clients CONNECT with "Authorization: Bearer <jwt>" and
+// SUBSCRIBE to /topic/projects/{projectId}/tasks.
+@Configuration
+@EnableWebSocketMessageBroker
+@EnableConfigurationProperties(RealtimeProperties.class)
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+  private final RealtimeProperties props;
+  private final StompAuthInterceptor authInterceptor;
+  private final UrlBasedCorsConfigurationSource cors;
+  private TaskScheduler heartbeatScheduler;
+
+  public WebSocketConfig(RealtimeProperties props, StompAuthInterceptor authInterceptor, UrlBasedCorsConfigurationSource cors) {
+    this.props = props;
+    this.authInterceptor = authInterceptor;
+    this.cors = cors;
+  }
+
+  // the broker config creates this scheduler itself, hence @Lazy
+  @Autowired
+  public void setHeartbeatScheduler(@Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler messageBrokerTaskScheduler) {
+    this.heartbeatScheduler = messageBrokerTaskScheduler;
+  }
+
+  @Override
+  public void registerStompEndpoints(StompEndpointRegistry registry) {
+    // browsers may open the socket from the same origins the REST API allows
+    registry.addEndpoint("/ws")
+        .setAllowedOrigins(cors.getCorsConfigurations().get("/**").getAllowedOrigins().toArray(String[]::new));
+  }
+
+  @Override
+  public void configureMessageBroker(MessageBrokerRegistry registry) {
+    long hb = props.getHeartbeat().toMillis();
+    registry.enableSimpleBroker("/topic")
+        .setHeartbeatValue(new long[] {hb, hb})
+        .setTaskScheduler(heartbeatScheduler);
+    registry.setApplicationDestinationPrefixes("/app");
+  }
+
+  @Override
+  public void configureWebSocketTransport(WebSocketTransportRegistration registry) {
+    registry
+        .setSendBufferSizeLimit(props.getSendBufferSizeLimitBytes())
+        .setSendTimeLimit((int) props.getSendTimeLimit().toMillis())
+        .setMessageSizeLimit(props.getMessageSizeLimitBytes());
+  }
+
+  @Override
+  public void configureClientInboundChannel(ChannelRegistration registration) {
+    registration.interceptors(authInterceptor);
+  }
+}
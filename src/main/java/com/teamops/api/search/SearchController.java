@@ -0,0 +1,93 @@
+package com.teamops.api.search;
+
+import com.teamops.api.common.CursorPage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+  private static final int MAX_QUERY_LENGTH = 200;
+  private static final int PREFIX_DEFAULT_LIMIT = 10;
+  private static final int PREFIX_MAX_LIMIT = 25;
+  // a one-letter prefix matches a large part of any table
+  private static final int PREFIX_MIN_LENGTH = 2;
+
+  private final SearchRepository search;
+
+  public SearchController(SearchRepository search) {
+    this.search = search;
+  }
+
+  @GetMapping
+  public ResponseEntity<CursorPage<SearchHit>> search(
+      @AuthenticationPrincipal UserDetails user,
+      @RequestParam String q,
+      @RequestParam(defaultValue = "ranked") String mode,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer limit
+  ) {
+    String query = q.trim();
+    if (query.isEmpty() || query.length() > MAX_QUERY_LENGTH) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "q must be 1-" + MAX_QUERY_LENGTH + " characters.");
+    }
+
+    return switch (mode.toLowerCase(Locale.ROOT)) {
+      case "ranked" -> ResponseEntity.ok(ranked(user.getUsername(), query, cursor, limit));
+      case "prefix" -> ResponseEntity.ok(prefix(user.getUsername(), query, limit));
+      default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "mode must be ranked or prefix.");
+    };
+  }
+
+  private CursorPage<SearchHit> ranked(String owner, String query, String cursor, Integer limit) {
+    SearchCursor after;
+    try {
+      after = SearchCursor.decodeOrNull(cursor);
+    } catch (IllegalArgumentException e) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    int pageSize = CursorPage.clampLimit(limit == null ? CursorPage.DEFAULT_LIMIT : limit);
+    List<SearchHit> rows = search.ranked(owner, query, after, pageSize + 1);
+
+    if (rows.size() <= pageSize) return new CursorPage<>(rows, null);
+    List<SearchHit> items = rows.subList(0, pageSize);
+    SearchHit last = items.get(pageSize - 1);
+    return new CursorPage<>(items, new SearchCursor(last.rank(), last.kind(), last.id()).encode());
+  }
+
+  private CursorPage<SearchHit> prefix(String owner, String query, Integer limit) {
+    String tsquery = toPrefixQuery(query);
+    if (tsquery == null) return new CursorPage<>(List.of(), null);
+
+    int n = Math.max(1, Math.min(limit == null ? PREFIX_DEFAULT_LIMIT : limit, PREFIX_MAX_LIMIT));
+    return new CursorPage<>(search.prefix(owner, tsquery, n), null);
+  }
+
+  // Only letters/digits reach to_tsquery, so user input can't inject tsquery operators.
+  // Returns null when the last word is too short to be worth looking up.
+  static String toPrefixQuery(String raw) {
+    List<String> words = new ArrayList<>();
+    for (String w : raw.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+      if (!w.isEmpty()) words.add(w);
+    }
+    if (words.isEmpty() || words.get(words.size() - 1).length() < PREFIX_MIN_LENGTH) return null;
+
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < words.size(); i++) {
+      if (i > 0) sb.append(" & ");
+      sb.append('\'').append(words.get(i)).append('\'');
+      if (i == words.size() - 1) sb.append(":*");
+    }
+    return sb.toString();
+  }
+}
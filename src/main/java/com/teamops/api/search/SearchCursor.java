@@ -0,0 +1,31 @@
+package com.teamops.api.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+// Opaque position in a (rank desc, kind, id) ordering. Rank is the exact float4 Postgres returned,
+// so it compares equal when sent back.
+record SearchCursor(float rank, String kind, UUID id) {
+
+  String encode() {
+    String raw = Float.floatToIntBits(rank) + "|" + kind + "|" + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  static SearchCursor decodeOrNull(String cursor) {
+    if (cursor == null || cursor.isBlank()) return null;
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+      String[] parts = raw.split("\\|", 3);
+      if (parts.length != 3) throw new IllegalArgumentException("Invalid cursor.");
+      return new SearchCursor(
+          Float.intBitsToFloat(Integer.parseInt(parts[0])),
+          parts[1],
+          UUID.fromString(parts[2])
+      );
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("Invalid cursor.");
+    }
+  }
+}
@@ -0,0 +1,12 @@
+package com.teamops.api.search;
+
+import java.util.UUID;
+
+// kind: "project" or "task"; projectId is the task's project (same as id for projects)
+public record SearchHit(
+    String kind,
+    UUID id,
+    UUID projectId,
+    String title,
+    Float rank
+) {}
@@ -0,0 +1,88 @@
+package com.teamops.api.search;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public class SearchRepository {
+
+  private static final RowMapper<SearchHit> ROW_MAPPER = (rs, rowNum) -> new SearchHit(
+      rs.getString("kind"),
+      rs.getObject("id", UUID.class),
+      rs.getObject("project_id", UUID.class),
+      rs.getString("title"),
+      rs.getObject("rank", Float.class)
+  );
+
+  private final NamedParameterJdbcTemplate jdbc;
+
+  public SearchRepository(NamedParameterJdbcTemplate jdbc) {
+    this.jdbc = jdbc;
+  }
+
+  // websearch syntax ("quoted phrase", -exclude, or); every match is ranked, then keyset-paged
+  public List<SearchHit> ranked(String ownerEmail, String query, SearchCursor after, int fetchSize) {
+    MapSqlParameterSource params = new MapSqlParameterSource()
+        .addValue("ownerEmail", ownerEmail)
+        .addValue("q", query)
+        .addValue("limit", fetchSize);
+
+    String page = "";
+    if (after != null) {
+      page = " where (h.rank < :afterRank or (h.rank = :afterRank and (h.kind, h.id) > (:afterKind, :afterId)))";
+      params.addValue("afterRank", after.rank())
+          .addValue("afterKind", after.kind())
+          .addValue("afterId", after.id());
+    }
+
+    return jdbc.query("""
+        with q as (select websearch_to_tsquery('simple', :q) as query),
+        hits as (
+          select 'project' as kind, p.id, p.id as project_id, p.name as title,
+                 ts_rank_cd(p.search_vector, q.query)::real as rank
+          from projects p, q
+          where p.owner_email = :ownerEmail and p.search_vector @@ q.query
+          union all
+          select 'task', t.id, t.project_id, t.title,
+                 ts_rank_cd(t.search_vector, q.query)::real
+          from tasks t, q
+          where t.owner_email = :ownerEmail and t.search_vector @@ q.query
+        )
+        select h.kind, h.id, h.project_id, h.title, h.rank
+        from hits h
+        """ + page + """
+
+        order by h.rank desc, h.kind, h.id
+        limit :limit
+        """, params, ROW_MAPPER);
+  }
+
+  // Typeahead: "wri rep" -> 'wri' & 'rep':*. GIN can't stop early: the bitmap index scan collects
+  // every matching row id for the owner first (prefix terms expand to all matching lexemes, hence
+  // the 2-char minimum). Skipping rank and sort only means the heap scan stops after `limit` rows
+  // and nothing is scored.
+  public List<SearchHit> prefix(String ownerEmail, String tsquery, int limit) {
+    MapSqlParameterSource params = new MapSqlParameterSource()
+        .addValue("ownerEmail", ownerEmail)
+        .addValue("q", tsquery)
+        .addValue("limit", limit);
+
+    return jdbc.query("""
+        (select 'project' as kind, p.id, p.id as project_id, p.name as title, null::real as rank
+         from projects p
+         where p.owner_email = :ownerEmail and p.search_vector @@ to_tsquery('simple', :q)
+         limit :limit)
+        union all
+        (select 'task', t.id, t.project_id, t.title, null::real
+         from tasks t
+         where t.owner_email = :ownerEmail and t.search_vector @@ to_tsquery('simple', :q)
+         limit :limit)
+        limit :limit
+        """, params, ROW_MAPPER);
+  }
+}
@@ -0,0 +1,28 @@
+package com.teamops.api.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+// BCryptPasswordEncoder only asks for an upgrade when the stored cost is lower than ours.
+// Flag any mismatch, so lowering security.password.bcrypt-strength also converges on login.
+public class AdaptiveBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+  private final int strength;
+
+  public AdaptiveBCryptPasswordEncoder(int strength) {
+    super(strength);
+    this.strength = strength;
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    // $2a$10$<salt+hash>
+    if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+      return false;
+    }
+    try {
+      return Integer.parseInt(encodedPassword.substring(4, 6)) != strength;
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,120 @@
+package com.teamops.api.security;
+
+import com.teamops.api.common.RetryableStatusException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Runs hashing on a small fixed pool with a bounded queue instead of on request threads.
+// When the queue is full (or a job waits in it longer than maxWait) the caller gets 503 right away,
+// so a login storm degrades logins only, not every other endpoint.
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+  private final PasswordEncoder delegate;
+  private final ThreadPoolExecutor executor;
+  private final long maxWaitNanos;
+  private final Counter rejected;
+  private final Timer queueWait;
+
+  public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingProperties props, MeterRegistry registry) {
+    this.delegate = delegate;
+
+    int threads = props.getThreads() > 0
+        ? props.getThreads()
+        : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    AtomicInteger n = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(
+        threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(props.getQueueCapacity()),
+        r -> {
+          Thread t = new Thread(r, "password-hash-" + n.incrementAndGet());
+          t.setDaemon(true);
+          return t;
+        },
+        new ThreadPoolExecutor.AbortPolicy()
+    );
+    this.maxWaitNanos = props.getMaxWait().toNanos();
+
+    Gauge.builder("auth.password.queue", executor, e -> e.getQueue().size())
+        .description("Hashing jobs waiting for a thread").register(registry);
+    Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount)
+        .description("Hashing jobs running").register(registry);
+    this.rejected = Counter.builder("auth.password.rejected")
+        .description("Hashing jobs refused because the pool was saturated").register(registry);
+    this.queueWait = Timer.builder("auth.password.wait")
+        .description("Time a hashing job spent queued").register(registry);
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return run(() -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return run(() -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  private <T> T run(Callable<T> job) {
+    long submitted = System.nanoTime();
+    // whoever flips this first owns the job: the pool thread runs it, or the caller gives up on it
+    AtomicBoolean claimed = new AtomicBoolean();
+    FutureTask<T> task = new FutureTask<>(() -> {
+      if (!claimed.compareAndSet(false, true)) return null;
+      queueWait.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+      return job.call();
+    });
+    try {
+      executor.execute(task);
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      throw busy();
+    }
+
+    try {
+      // maxWait bounds the time spent queued only; once a job has started it runs to completion
+      // (BCrypt ignores interrupts, so cancelling it would just hide a busy thread)
+      try {
+        return task.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+      } catch (TimeoutException e) {
+        if (claimed.compareAndSet(false, true)) {
+          executor.remove(task);
+          rejected.increment();
+          throw busy();
+        }
+        return task.get();
+      }
+    } catch (InterruptedException e) {
+      if (claimed.compareAndSet(false, true)) executor.remove(task);
+      Thread.currentThread().interrupt();
+      throw busy();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException re) throw re;
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  private static RetryableStatusException busy() {
+    return new RetryableStatusException(
+        HttpStatus.SERVICE_UNAVAILABLE, "Too many sign-in attempts, please retry shortly.", Duration.ofSeconds(1));
+  }
+}
@@ -9,7 +9,7 @@ import org.springframework.stereotype.Service;
 import java.util.List;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
   private final UserRepository users;
 
@@ -30,4 +30,17 @@ public class CustomUserDetailsService implements UserDetailsService {
         List.of(new SimpleGrantedAuthority("ROLE_" + role))
     );
   }
+
+  // called by DaoAuthenticationProvider after a successful login whose stored hash
+  // uses a different BCrypt cost than the configured one
+  @Override
+  public UserDetails updatePassword(UserDetails user, String newPassword) {
+    users.findByEmail(user.getUsername()).ifPresent(u -> {
+      u.setPasswordHash(newPassword);
+      users.save(u);
+    });
+    return org.springframework.security.core.userdetails.User.withUserDetails(user)
+        .password(newPassword)
+        .build();
+  }
 }
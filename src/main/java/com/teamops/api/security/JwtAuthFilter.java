@@ -3,6 +3,8 @@ package com.teamops.api.security;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,22 +13,43 @@ import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Component
 public class JwtAuthFilter extends OncePerRequestFilter {
 
+  // EventSource can't send headers: the SSE stream also takes ?ticket= (see JwtService.issueStreamTicket)
+  private static final Pattern EVENTS_PATH = Pattern.compile("^/api/projects/([0-9a-fA-F-]{36})/events$");
+
   private final JwtService jwt;
-  private final UserDetailsService userDetailsService;
+  private final PrincipalCache principals;
+
+  // time spent authenticating, excluding the rest of the chain
+  private final Timer authenticated;
+  private final Timer invalid;
+  private final Timer anonymous;
 
-  public JwtAuthFilter(JwtService jwt, UserDetailsService userDetailsService) {
+  public JwtAuthFilter(JwtService jwt, PrincipalCache principals, MeterRegistry registry) {
     this.jwt = jwt;
-    this.userDetailsService = userDetailsService;
+    this.principals = principals;
+    this.authenticated = timer(registry, "authenticated");
+    this.invalid = timer(registry, "invalid_token");
+    this.anonymous = timer(registry, "anonymous");
+  }
+
+  private static Timer timer(MeterRegistry registry, String outcome) {
+    return Timer.builder("auth.filter")
+        .description("JWT authentication per request")
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(registry);
   }
   @Override
   protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
@@ -43,20 +66,39 @@ public class JwtAuthFilter extends OncePerRequestFilter {
       @NonNull FilterChain filterChain
   ) throws ServletException, IOException {
 
+    long start = System.nanoTime();
     String auth = request.getHeader("Authorization");
-    if (auth == null || !auth.startsWith("Bearer ")) {
+    String token = null;
+    String ticketProject = null;
+    if (auth != null && auth.startsWith("Bearer ")) {
+      token = auth.substring("Bearer ".length()).trim();
+    } else if ("GET".equals(request.getMethod()) && request.getParameter("ticket") != null) {
+      Matcher m = EVENTS_PATH.matcher(request.getServletPath());
+      if (m.matches()) {
+        token = request.getParameter("ticket");
+        ticketProject = m.group(1).toLowerCase();
+      }
+    }
+    if (token == null) {
+      anonymous.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
       filterChain.doFilter(request, response);
       return;
     }
 
-    String token = auth.substring("Bearer ".length()).trim();
+    Timer outcome = anonymous;
 
     try {
       Jws<Claims> parsed = jwt.parse(token);
       String email = parsed.getBody().getSubject();
 
+      // a ticket only opens the stream it was issued for, and is never a bearer token
+      String streamProject = parsed.getBody().get(JwtService.STREAM_PROJECT, String.class);
+      if (ticketProject == null ? streamProject != null : !ticketProject.equals(streamProject)) {
+        throw new JwtException("token not valid for this request");
+      }
+
       if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        UserDetails userDetails = principals.resolve(parsed.getBody());
 
         var authentication = new UsernamePasswordAuthenticationToken(
             userDetails, null, userDetails.getAuthorities()
@@ -64,10 +106,13 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
+        outcome = authenticated;
       }
     } catch (JwtException ignored) {
       // invalid token -> treat as unauthenticated
+      outcome = invalid;
     }
+    outcome.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
 
     filterChain.doFilter(request, response);
   }
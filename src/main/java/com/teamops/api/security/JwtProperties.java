@@ -4,10 +4,15 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 @Getter
 @Setter
 @ConfigurationProperties(prefix = "security.jwt")
 public class JwtProperties {
   private String secret;
   private int expiresMin;
+  private long verifiedCacheMaxSize = 10_000;
+  // SSE tickets travel in the query string (EventSource can't set headers), so they expire fast
+  private Duration streamTicketTtl = Duration.ofSeconds(60);
 }
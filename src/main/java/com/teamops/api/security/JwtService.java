@@ -1,27 +1,70 @@
 package com.teamops.api.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.stereotype.Service;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class JwtService {
 
+  // set only on SSE stream tickets: the one project stream the ticket opens
+  public static final String STREAM_PROJECT = "stream_project";
+
   private final JwtProperties props;
   private final Key key;
+  private final JwtParser parser;
+  private final Cache<String, Jws<Claims>> verified;
+
+  private final MeterRegistry registry;
+  private final Timer parseHit;
+  private final Timer parseMiss;
+  private final Timer issue;
 
-  public JwtService(JwtProperties props) {
+  public JwtService(JwtProperties props, MeterRegistry registry) {
     this.props = props;
     this.key = Keys.hmacShaKeyFor(props.getSecret().getBytes(StandardCharsets.UTF_8));
+
+    // parsers are immutable and thread-safe, build once
+    this.parser = Jwts.parserBuilder()
+        .setSigningKey(key)
+        .build();
+
+    this.verified = Caffeine.newBuilder()
+        .maximumSize(props.getVerifiedCacheMaxSize())
+        .expireAfter(new UntilTokenExpiry())
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(registry, verified, "auth.jwt.verified");
+
+    this.registry = registry;
+    this.parseHit = Timer.builder("auth.jwt.parse").tag("cache", "hit").register(registry);
+    this.parseMiss = Timer.builder("auth.jwt.parse").tag("cache", "miss").register(registry);
+    this.issue = Timer.builder("auth.jwt.issue").register(registry);
   }
 
   public String issueToken(String subjectEmail, String role) {
+    return issue.record(() -> buildToken(subjectEmail, role));
+  }
+
+  private String buildToken(String subjectEmail, String role) {
     Instant now = Instant.now();
     Instant exp = now.plusSeconds(props.getExpiresMin() * 60L);
 
@@ -34,10 +77,79 @@ public class JwtService {
         .compact();
   }
 
+  // no role claim: the principal is resolved from the users table like any other request
+  public String issueStreamTicket(String subjectEmail, UUID projectId) {
+    Instant now = Instant.now();
+    return Jwts.builder()
+        .setSubject(subjectEmail)
+        .setIssuedAt(Date.from(now))
+        .setExpiration(Date.from(now.plus(props.getStreamTicketTtl())))
+        .addClaims(Map.of(STREAM_PROJECT, projectId.toString()))
+        .signWith(key, SignatureAlgorithm.HS256)
+        .compact();
+  }
+
   public Jws<Claims> parse(String token) throws JwtException {
-    return Jwts.parserBuilder()
-        .setSigningKey(key)
-        .build()
-        .parseClaimsJws(token);
+    long start = System.nanoTime();
+    String cacheKey = hash(token);
+
+    Jws<Claims> cached = verified.getIfPresent(cacheKey);
+    if (cached != null) {
+      parseHit.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      return cached;
+    }
+
+    Jws<Claims> parsed;
+    try {
+      parsed = parser.parseClaimsJws(token);
+    } catch (JwtException | IllegalArgumentException e) {
+      registry.counter("auth.jwt.parse.errors", "reason", reason(e)).increment();
+      throw e;
+    }
+    verified.put(cacheKey, parsed);
+    parseMiss.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    return parsed;
+  }
+
+  // fixed set of values, safe as a tag
+  private static String reason(RuntimeException e) {
+    if (e instanceof ExpiredJwtException) return "expired";
+    if (e instanceof SignatureException) return "signature";
+    if (e instanceof MalformedJwtException) return "malformed";
+    if (e instanceof UnsupportedJwtException) return "unsupported";
+    return "other";
+  }
+
+  // keyed by digest so raw bearer tokens are never retained
+  private static String hash(String token) {
+    try {
+      MessageDigest md = MessageDigest.getInstance("SHA-256");
+      byte[] digest = md.digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  // entries live until the token's own exp, never longer
+  private static final class UntilTokenExpiry implements Expiry<String, Jws<Claims>> {
+
+    @Override
+    public long expireAfterCreate(String key, Jws<Claims> value, long currentTime) {
+      Date exp = value.getBody().getExpiration();
+      if (exp == null) return 0;
+      long remainingMs = exp.getTime() - System.currentTimeMillis();
+      return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMs));
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, Jws<Claims> value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, Jws<Claims> value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
   }
 }
@@ -0,0 +1,23 @@
+package com.teamops.api.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "security.password")
+public class PasswordHashingProperties {
+
+  // existing hashes with a different cost are re-hashed on the user's next successful login
+  private int bcryptStrength = 10;
+
+  // 0 -> half the cores, so a login storm can't take the whole CPU from the rest of the API
+  private int threads = 0;
+  private int queueCapacity = 64;
+
+  // upper bound on queue wait; past it the request gets 503 instead of hanging
+  private Duration maxWait = Duration.ofSeconds(5);
+}
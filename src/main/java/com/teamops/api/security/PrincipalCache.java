@@ -0,0 +1,97 @@
+package com.teamops.api.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teamops.api.cache.InvalidationBus;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class PrincipalCache {
+
+  static final String REGION = "principals";
+
+  private final String nodeId = UUID.randomUUID().toString();
+  private final UserDetailsService userDetailsService;
+  private final PrincipalCacheProperties props;
+  private final InvalidationBus bus;
+  private final Cache<String, UserDetails> cache;
+
+  public PrincipalCache(
+      UserDetailsService userDetailsService,
+      PrincipalCacheProperties props,
+      InvalidationBus bus,
+      MeterRegistry registry
+  ) {
+    this.userDetailsService = userDetailsService;
+    this.props = props;
+    this.bus = bus;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(props.getMaxSize())
+        .expireAfterWrite(props.getTtl())
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(registry, cache, "auth.principals");
+
+    bus.subscribe(REGION, msg -> {
+      if (!nodeId.equals(msg.origin())) cache.invalidateAll(msg.keys());
+    });
+  }
+
+  public UserDetails resolve(Claims claims) {
+    String email = claims.getSubject();
+    String role = claims.get("role", String.class);
+
+    if (props.isTrustTokenClaims() && role != null) {
+      return principal(email, role);
+    }
+
+    // the cached entry follows the users table (role changes evict it), so a token whose role
+    // claim disagrees was issued before the change and is refused rather than triggering a reload
+    UserDetails principal = cache.get(email, this::load);
+    if (role != null && !hasRole(principal, role)) {
+      throw new JwtException("token role is out of date");
+    }
+    return principal;
+  }
+
+  // call after a user's role change or removal has committed; reaches every node
+  public void evict(String email) {
+    cache.invalidate(email);
+    bus.publish(REGION, nodeId, List.of(email));
+  }
+
+  private UserDetails load(String email) {
+    UserDetails loaded = userDetailsService.loadUserByUsername(email);
+    // never keep password hashes around in memory
+    return new User(loaded.getUsername(), "", loaded.getAuthorities());
+  }
+
+  private static UserDetails principal(String email, String role) {
+    return new User(email, "", List.of(new SimpleGrantedAuthority(authority(role))));
+  }
+
+  private static boolean hasRole(UserDetails user, String role) {
+    String expected = authority(role);
+    for (GrantedAuthority a : user.getAuthorities()) {
+      if (expected.equals(a.getAuthority())) return true;
+    }
+    return false;
+  }
+
+  // Spring Security expects roles like ROLE_USER
+  private static String authority(String role) {
+    return "ROLE_" + role.toUpperCase();
+  }
+}
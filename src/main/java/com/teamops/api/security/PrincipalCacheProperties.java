@@ -0,0 +1,18 @@
+package com.teamops.api.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "security.principal-cache")
+public class PrincipalCacheProperties {
+  private long maxSize = 10_000;
+  private Duration ttl = Duration.ofMinutes(5);
+
+  // true -> build the principal straight from the verified token (no users lookup at all)
+  private boolean trustTokenClaims = false;
+}
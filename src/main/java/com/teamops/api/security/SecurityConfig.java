@@ -1,6 +1,9 @@
 package com.teamops.api.security;
 
 import jakarta.servlet.DispatcherType;
+import com.teamops.api.ratelimit.RateLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
@@ -12,27 +15,36 @@ import org.springframework.security.authentication.dao.DaoAuthenticationProvider
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
-@EnableConfigurationProperties(JwtProperties.class)
+@EnableConfigurationProperties({JwtProperties.class, PrincipalCacheProperties.class, PasswordHashingProperties.class})
 public class SecurityConfig {
 
   private final JwtAuthFilter jwtAuthFilter;
-  private final UserDetailsService userDetailsService;
+  private final RateLimitFilter rateLimitFilter;
+  private final CustomUserDetailsService userDetailsService;
 
-  public SecurityConfig(JwtAuthFilter jwtAuthFilter, UserDetailsService userDetailsService) {
+  // -1 -> actuator shares the app port (dev); prod moves it to its own, non-public port
+  private final int managementPort;
+
+  public SecurityConfig(
+      JwtAuthFilter jwtAuthFilter,
+      RateLimitFilter rateLimitFilter,
+      CustomUserDetailsService userDetailsService,
+      @Value("${management.server.port:-1}") int managementPort
+  ) {
     this.jwtAuthFilter = jwtAuthFilter;
+    this.rateLimitFilter = rateLimitFilter;
     this.userDetailsService = userDetailsService;
+    this.managementPort = managementPort;
   }
 
   @Bean
-  public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+  public SecurityFilterChain securityFilterChain(HttpSecurity http, DaoAuthenticationProvider daoAuthProvider) throws Exception {
     return http
         .csrf(csrf -> csrf.disable())
         .cors(cors -> {})
@@ -41,18 +53,28 @@ public class SecurityConfig {
             .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
             .accessDeniedHandler((req, res, ex) -> res.setStatus(HttpStatus.FORBIDDEN.value()))
         )
-        .authenticationProvider(daoAuthProvider())
+        .authenticationProvider(daoAuthProvider)
         .authorizeHttpRequests(auth -> auth
             // allow Spring's error dispatch
             .dispatcherTypeMatchers(DispatcherType.ERROR).permitAll()
+            // async re-dispatch of an already-authorized request (SSE streams)
+            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
             .requestMatchers("/error").permitAll()
 
             .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 
+            // everything on the management port (metrics scraping); it is not exposed publicly
+            .requestMatchers(req -> managementPort > 0 && req.getLocalPort() == managementPort).permitAll()
+
             // public endpoints
             .requestMatchers("/auth/**").permitAll()
             .requestMatchers("/actuator/health", "/actuator/info").permitAll()
 
+            // WebSocket handshake; STOMP CONNECT carries the JWT (see StompAuthInterceptor)
+            .requestMatchers("/ws", "/ws/**").permitAll()
+
+            .requestMatchers("/api/admin/**").hasRole("ADMIN")
+
             // everything under /api requires auth
             .requestMatchers("/api/**").authenticated()
 
@@ -60,14 +82,18 @@ public class SecurityConfig {
             .anyRequest().denyAll()
         )
         .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+        // after auth so writes are limited per user, before anything expensive
+        .addFilterAfter(rateLimitFilter, JwtAuthFilter.class)
         .build();
   }
 
   @Bean
-  public DaoAuthenticationProvider daoAuthProvider() {
+  public DaoAuthenticationProvider daoAuthProvider(PasswordEncoder passwordEncoder) {
     DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
     provider.setUserDetailsService(userDetailsService);
-    provider.setPasswordEncoder(passwordEncoder());
+    provider.setPasswordEncoder(passwordEncoder);
+    // rehash on login when security.password.bcrypt-strength changes
+    provider.setUserDetailsPasswordService(userDetailsService);
     return provider;
   }
 
@@ -79,8 +105,10 @@ public class SecurityConfig {
   }
 
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public PasswordEncoder passwordEncoder(PasswordHashingProperties props, MeterRegistry registry) {
+    // timing sits inside the pool so auth.password measures hashing, not queueing
+    PasswordEncoder bcrypt = new TimedPasswordEncoder(new AdaptiveBCryptPasswordEncoder(props.getBcryptStrength()), registry);
+    return new BoundedPasswordEncoder(bcrypt, props, registry);
   }
 
   @Bean
@@ -0,0 +1,50 @@
+package com.teamops.api.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+// BCrypt is deliberately slow; this shows how slow, per operation, under real load.
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+  private final PasswordEncoder delegate;
+  private final Timer encode;
+  private final Timer matched;
+  private final Timer mismatched;
+
+  public TimedPasswordEncoder(PasswordEncoder delegate, MeterRegistry registry) {
+    this.delegate = delegate;
+    this.encode = timer(registry, "encode", "none");
+    this.matched = timer(registry, "matches", "match");
+    this.mismatched = timer(registry, "matches", "mismatch");
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return encode.record(() -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    long start = System.nanoTime();
+    boolean ok = delegate.matches(rawPassword, encodedPassword);
+    (ok ? matched : mismatched).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    return ok;
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  private static Timer timer(MeterRegistry registry, String op, String outcome) {
+    return Timer.builder("auth.password")
+        .description("Password hashing and verification")
+        .tag("op", op)
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(registry);
+  }
+}
@@ -0,0 +1,43 @@
+package com.teamops.api.task;
+
+import com.teamops.api.common.KeysetCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+// Opaque delta-sync position: the last (changed_at, id) handed out, plus `syncedTo`, the watermark
+// the client's copy is known complete up to. The tombstone TTL is checked against syncedTo, not the
+// position: a quiet project or an initial sync over old tasks has an old position but a fresh copy.
+record SyncCursor(OffsetDateTime changedAt, UUID id, OffsetDateTime syncedTo) {
+
+  KeysetCursor position() {
+    return new KeysetCursor(changedAt, id);
+  }
+
+  String encode() {
+    String raw = changedAt.toInstant() + "|" + id + "|" + syncedTo.toInstant();
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  // cursors issued before syncedTo existed decode with syncedTo = changedAt, the old TTL rule
+  static SyncCursor decodeOrNull(String cursor) {
+    if (cursor == null || cursor.isBlank()) return null;
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+      String[] parts = raw.split("\\|", 3);
+      if (parts.length < 2) throw new IllegalArgumentException("Invalid cursor.");
+      OffsetDateTime at = utc(parts[0]);
+      return new SyncCursor(at, UUID.fromString(parts[1]), parts.length == 3 ? utc(parts[2]) : at);
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("Invalid cursor.");
+    }
+  }
+
+  private static OffsetDateTime utc(String instant) {
+    return OffsetDateTime.ofInstant(Instant.parse(instant), ZoneOffset.UTC);
+  }
+}
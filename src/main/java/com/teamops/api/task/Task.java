@@ -3,7 +3,6 @@ package com.teamops.api.task;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.OffsetDateTime;
 import java.util.UUID;
@@ -40,7 +39,7 @@ public class Task {
   @Column(name = "created_at", nullable = false, updatable = false)
   private OffsetDateTime createdAt;
 
-  @UpdateTimestamp
-  @Column(name = "updated_at", nullable = false)
+  // stamped by the database on every insert/update (V17); writers read it back
+  @Column(name = "updated_at", nullable = false, insertable = false, updatable = false)
   private OffsetDateTime updatedAt;
 }
@@ -0,0 +1,34 @@
+package com.teamops.api.task;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public class TaskBulkDtos {
+
+  public static final int MAX_OPERATIONS = 10_000;
+
+  @Getter @Setter
+  public static class BulkRequest {
+    // items are validated one by one so a bad item only fails itself
+    @NotEmpty @Size(max = MAX_OPERATIONS)
+    private List<Operation> operations;
+  }
+
+  @Getter @Setter
+  public static class Operation {
+    private String op; // CREATE, UPDATE, DELETE
+    private UUID id; // required for UPDATE / DELETE
+    private String title;
+    private String status;
+    private OffsetDateTime dueAt;
+  }
+
+  public record ItemResult(int index, String op, int status, UUID id, TaskResponse task, String error) {}
+
+  public record BulkResponse(int applied, int failed, List<ItemResult> results) {}
+}
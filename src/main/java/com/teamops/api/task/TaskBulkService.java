@@ -0,0 +1,166 @@
+package com.teamops.api.task;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.OffsetDateTime;
+import java.util.*;
+
+@Service
+public class TaskBulkService {
+
+  private static final String CREATE = "CREATE";
+  private static final String UPDATE = "UPDATE";
+  private static final String DELETE = "DELETE";
+
+  private final TaskRepository tasks;
+  private final ApplicationEventPublisher events;
+
+  public TaskBulkService(TaskRepository tasks, ApplicationEventPublisher events) {
+    this.tasks = tasks;
+    this.events = events;
+  }
+
+  // Caller has already authorized the project; ownerEmail scopes the rows, actorEmail goes on the events.
+  // Everything is written in one transaction;
+  // hibernate.jdbc.batch_size + order_inserts/order_updates turn the flush into JDBC batches.
+  @Transactional
+  public TaskBulkDtos.BulkResponse apply(
+      String ownerEmail, String actorEmail, UUID projectId, List<TaskBulkDtos.Operation> ops) {
+    TaskBulkDtos.ItemResult[] results = new TaskBulkDtos.ItemResult[ops.size()];
+    Map<Integer, Task> written = new LinkedHashMap<>();
+
+    // one query for every task touched by an UPDATE / DELETE.
+    // An id may appear once per request: results and events are built from the final entity state,
+    // so UPDATE then DELETE of one row would report and publish an update that never survives.
+    Set<UUID> targetIds = new HashSet<>();
+    for (TaskBulkDtos.Operation op : ops) {
+      if (op != null && op.getId() != null && !targetIds.add(op.getId())) {
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "task " + op.getId() + " appears more than once");
+      }
+    }
+    Map<UUID, Task> existing = new HashMap<>();
+    if (!targetIds.isEmpty()) {
+      for (Task t : tasks.findAllByOwnerEmailAndProjectIdAndIdIn(ownerEmail, projectId, targetIds)) {
+        existing.put(t.getId(), t);
+      }
+    }
+
+    List<Task> inserts = new ArrayList<>();
+    List<Task> deletes = new ArrayList<>();
+
+    for (int i = 0; i < ops.size(); i++) {
+      TaskBulkDtos.Operation op = ops.get(i);
+      String kind = (op == null || op.getOp() == null) ? "" : op.getOp().trim().toUpperCase();
+
+      try {
+        switch (kind) {
+          case CREATE -> {
+            Task t = Task.builder()
+                .projectId(projectId)
+                .title(requireTitle(op.getTitle()))
+                .status(TaskStatus.defaultIfBlank(op.getStatus()))
+                .dueAt(op.getDueAt())
+                .ownerEmail(ownerEmail)
+                .build();
+            inserts.add(t);
+            written.put(i, t);
+          }
+          case UPDATE -> {
+            Task t = requireExisting(existing, op.getId());
+            applyUpdate(t, op);
+            written.put(i, t);
+          }
+          case DELETE -> {
+            Task t = requireExisting(existing, op.getId());
+            deletes.add(t);
+            results[i] = new TaskBulkDtos.ItemResult(i, DELETE, HttpStatus.NO_CONTENT.value(), t.getId(), null, null);
+          }
+          default -> throw new ItemException(HttpStatus.BAD_REQUEST, "op must be CREATE, UPDATE or DELETE");
+        }
+      } catch (ItemException e) {
+        results[i] = new TaskBulkDtos.ItemResult(i, kind, e.status.value(), op == null ? null : op.getId(), null, e.getMessage());
+      } catch (IllegalArgumentException e) {
+        results[i] = new TaskBulkDtos.ItemResult(i, kind, HttpStatus.BAD_REQUEST.value(), op == null ? null : op.getId(), null, e.getMessage());
+      }
+    }
+
+    tasks.saveAll(inserts);
+    tasks.deleteAll(deletes);
+    // updates are picked up by dirty checking; flush now, then read back the database-stamped
+    // updated_at (V17) of every written row in one query for the responses and events
+    tasks.flush();
+    if (!written.isEmpty()) {
+      Map<UUID, OffsetDateTime> stamps = tasks.findUpdatedAt(written.values().stream().map(Task::getId).toList());
+      for (Task t : written.values()) t.setUpdatedAt(stamps.get(t.getId()));
+    }
+
+    for (Map.Entry<Integer, Task> e : written.entrySet()) {
+      int i = e.getKey();
+      Task t = e.getValue();
+      boolean created = CREATE.equals(ops.get(i).getOp().trim().toUpperCase());
+      TaskResponse out = TaskResponse.from(t);
+      results[i] = new TaskBulkDtos.ItemResult(
+          i,
+          created ? CREATE : UPDATE,
+          created ? HttpStatus.CREATED.value() : HttpStatus.OK.value(),
+          t.getId(),
+          out,
+          null
+      );
+      events.publishEvent(created ? TaskEvent.created(actorEmail, out) : TaskEvent.updated(actorEmail, out));
+    }
+    // transactional listeners only see these once the batch commits
+    for (Task t : deletes) {
+      events.publishEvent(TaskEvent.deleted(actorEmail, projectId, t.getId()));
+    }
+
+    int failed = 0;
+    for (TaskBulkDtos.ItemResult r : results) {
+      if (r.error() != null) failed++;
+    }
+    return new TaskBulkDtos.BulkResponse(results.length - failed, failed, Arrays.asList(results));
+  }
+
+  private static Task requireExisting(Map<UUID, Task> existing, UUID id) {
+    if (id == null) throw new ItemException(HttpStatus.BAD_REQUEST, "id is required");
+    Task t = existing.get(id);
+    if (t == null) throw new ItemException(HttpStatus.NOT_FOUND, "task not found");
+    return t;
+  }
+
+  private static void applyUpdate(Task t, TaskBulkDtos.Operation op) {
+    // validate everything before touching the managed entity
+    String title = (op.getTitle() != null) ? requireTitle(op.getTitle()) : null;
+    String status = (op.getStatus() != null) ? TaskStatus.normalizeOrThrow(op.getStatus()) : null;
+
+    if (title == null && status == null && op.getDueAt() == null) {
+      throw new ItemException(HttpStatus.BAD_REQUEST, "No updatable fields provided");
+    }
+
+    if (title != null) t.setTitle(title);
+    if (status != null) t.setStatus(status);
+    if (op.getDueAt() != null) t.setDueAt(op.getDueAt());
+  }
+
+  private static String requireTitle(String raw) {
+    String title = (raw == null) ? "" : raw.trim();
+    if (title.isEmpty()) throw new ItemException(HttpStatus.BAD_REQUEST, "title cannot be blank");
+    if (title.length() < 2 || title.length() > 200) {
+      throw new ItemException(HttpStatus.BAD_REQUEST, "title must be 2-200 characters");
+    }
+    return title;
+  }
+
+  private static final class ItemException extends RuntimeException {
+    private final HttpStatus status;
+
+    ItemException(HttpStatus status, String message) {
+      super(message);
+      this.status = status;
+    }
+  }
+}
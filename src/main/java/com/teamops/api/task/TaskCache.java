@@ -0,0 +1,76 @@
+package com.teamops.api.task;
+
+import com.teamops.api.cache.CacheCodec;
+import com.teamops.api.cache.CacheKeys;
+import com.teamops.api.cache.CacheProperties;
+import com.teamops.api.cache.KeyValueCache;
+import com.teamops.api.common.CursorPage;
+import com.teamops.api.common.ListVersion;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+// Read-through cache over TaskRepository reads; TaskController keeps it in sync on writes
+@Component
+public class TaskCache {
+
+  private final TaskRepository tasks;
+  private final KeyValueCache cache;
+  private final CacheProperties props;
+
+  public TaskCache(TaskRepository tasks, KeyValueCache cache, CacheProperties props) {
+    this.tasks = tasks;
+    this.cache = cache;
+    this.props = props;
+  }
+
+  public Optional<TaskResponse> getOne(String owner, UUID projectId, UUID taskId) {
+    String key = CacheKeys.task(owner, projectId, taskId);
+
+    TaskResponse cached = cache.get(key).map(CacheCodec::decodeTask).orElse(null);
+    if (cached != null) return Optional.of(cached);
+
+    Optional<TaskResponse> loaded = tasks.findByIdAndOwnerEmailAndProjectId(taskId, owner, projectId)
+        .map(TaskResponse::from);
+    loaded.ifPresent(t -> cache.putIfNewer(key, CacheCodec.encodeTask(t), CacheCodec.revision(t.updatedAt()), props.getEntryTtl()));
+    return loaded;
+  }
+
+  // only the unfiltered default first page is cached; versioned like ProjectCache.firstPage
+  public CursorPage<TaskResponse> firstPage(
+      String owner, UUID projectId, ListVersion version, Supplier<CursorPage<TaskResponse>> loader
+  ) {
+    String key = CacheKeys.tasksFirstPage(owner, projectId);
+
+    CursorPage<TaskResponse> cached = cache.get(key).map(b -> CacheCodec.decodeTaskPage(b, version)).orElse(null);
+    if (cached != null) return cached;
+
+    CursorPage<TaskResponse> loaded = loader.get();
+    cache.put(key, CacheCodec.encodeTaskPage(version, loaded), props.getListTtl());
+    return loaded;
+  }
+
+  // same reasoning as ProjectCache.written
+  public void written(String owner, TaskResponse t) {
+    applied(owner, t.projectId(), List.of(t), List.of());
+  }
+
+  public void deleted(String owner, UUID projectId, Collection<UUID> taskIds) {
+    applied(owner, projectId, List.of(), taskIds);
+  }
+
+  // one invalidation for a whole bulk request instead of a cache write per item
+  public void applied(String owner, UUID projectId, Collection<TaskResponse> written, Collection<UUID> deletedIds) {
+    Map<String, Long> revisions = new HashMap<>();
+    for (TaskResponse t : written) revisions.put(CacheKeys.task(owner, projectId, t.id()), CacheCodec.revision(t.updatedAt()));
+    for (UUID id : deletedIds) revisions.put(CacheKeys.task(owner, projectId, id), KeyValueCache.GONE);
+    cache.invalidate(revisions, props.getEntryTtl());
+    cache.evict(List.of(CacheKeys.tasksFirstPage(owner, projectId)));
+  }
+}
@@ -0,0 +1,89 @@
+package com.teamops.api.task;
+
+import com.teamops.api.common.KeysetCursor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// Delta feed over tasks.updated_at plus task_tombstones (filled by a delete trigger, see V11).
+@Repository
+public class TaskChangeRepository {
+
+  // a live task or a tombstone (task == null), positioned by (changedAt, id)
+  public record Change(UUID id, OffsetDateTime changedAt, TaskResponse task) {}
+
+  private static final String LIVE = """
+      (select id, project_id, title, status, due_at, created_at, updated_at,
+              updated_at as changed_at, false as deleted
+       from tasks
+       where owner_email = :ownerEmail and project_id = :projectId
+         and (updated_at, id) > (:afterAt, :afterId) and updated_at <= :upTo
+       order by updated_at, id
+       limit :limit)
+      """;
+
+  private static final String DELETED = """
+      (select task_id, project_id, null::text, null::text, null::timestamptz, null::timestamptz, null::timestamptz,
+              deleted_at, true
+       from task_tombstones
+       where project_id = :projectId
+         and (deleted_at, task_id) > (:afterAt, :afterId) and deleted_at <= :upTo
+       order by deleted_at, task_id
+       limit :limit)
+      """;
+
+  private final NamedParameterJdbcTemplate jdbc;
+
+  public TaskChangeRepository(NamedParameterJdbcTemplate jdbc) {
+    this.jdbc = jdbc;
+  }
+
+  // Ascending (changed_at, id) after `after`, up to `upTo`; each branch walks its own index and
+  // is cut at `limit` before the merge. Tombstones are skipped for an initial sync.
+  public List<Change> findAfter(
+      String ownerEmail, UUID projectId, KeysetCursor after, OffsetDateTime upTo, boolean includeDeleted, int limit
+  ) {
+    String sql = includeDeleted
+        ? LIVE + " union all " + DELETED + " order by changed_at, id limit :limit"
+        : LIVE;
+
+    MapSqlParameterSource params = new MapSqlParameterSource()
+        .addValue("ownerEmail", ownerEmail)
+        .addValue("projectId", projectId)
+        .addValue("afterAt", after.createdAt())
+        .addValue("afterId", after.id())
+        .addValue("upTo", upTo)
+        .addValue("limit", limit);
+
+    return jdbc.query(sql, params, (rs, rowNum) -> {
+      UUID id = rs.getObject("id", UUID.class);
+      OffsetDateTime changedAt = rs.getObject("changed_at", OffsetDateTime.class);
+      TaskResponse task = rs.getBoolean("deleted") ? null : TaskRepositoryCustomImpl.ROW_MAPPER.mapRow(rs, rowNum);
+      return new Change(id, changedAt, task);
+    });
+  }
+
+  // the clock that stamps updated_at and deleted_at (V11, V17); the feed's bounds come from it too
+  public OffsetDateTime now() {
+    return jdbc.getJdbcTemplate().queryForObject("select clock_timestamp()", OffsetDateTime.class);
+  }
+
+  // bounded batches so compaction never holds a long lock on a big backlog
+  public int compact(Duration olderThan, int batchSize) {
+    return jdbc.update("""
+        delete from task_tombstones
+        where task_id in (
+          select task_id from task_tombstones
+          where deleted_at < clock_timestamp() - make_interval(secs => :olderThanSeconds)
+          limit :batchSize
+        )
+        """, new MapSqlParameterSource()
+        .addValue("olderThanSeconds", (double) olderThan.toSeconds())
+        .addValue("batchSize", batchSize));
+  }
+}
@@ -0,0 +1,19 @@
+package com.teamops.api.task;
+
+import java.util.List;
+import java.util.UUID;
+
+// One page of the delta feed. Apply `updated` as upserts and `deleted` as removals, then call
+// again with `nextCursor` while `hasMore`. `resetRequired` means the client last caught up longer
+// ago than the tombstone TTL: drop the local copy and start over without `since`.
+public record TaskChanges(
+    List<TaskResponse> updated,
+    List<UUID> deleted,
+    String nextCursor,
+    boolean hasMore,
+    boolean resetRequired
+) {
+  public static TaskChanges reset() {
+    return new TaskChanges(List.of(), List.of(), null, false, true);
+  }
+}
@@ -1,19 +1,32 @@
 package com.teamops.api.task;
 
-import com.teamops.api.project.Project;
-import com.teamops.api.project.ProjectRepository;
+import com.teamops.api.comment.Comment;
+import com.teamops.api.comment.CommentCount;
+import com.teamops.api.comment.CommentRepository;
+import com.teamops.api.common.CursorPage;
+import com.teamops.api.common.ETags;
+import com.teamops.api.common.KeysetCursor;
+import com.teamops.api.common.ListVersion;
+import com.teamops.api.workspace.ProjectAccess;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -22,27 +35,93 @@ import java.util.UUID;
 public class TaskController {
 
   private final TaskRepository tasks;
-  private final ProjectRepository projects;
-
-  public TaskController(TaskRepository tasks, ProjectRepository projects) {
+  private final ProjectAccess access;
+  private final TaskBulkService bulk;
+  private final TaskSyncService sync;
+  private final CommentRepository comments;
+  private final TaskCache cache;
+  private final ApplicationEventPublisher events;
+
+  public TaskController(
+      TaskRepository tasks,
+      ProjectAccess access,
+      TaskBulkService bulk,
+      TaskSyncService sync,
+      CommentRepository comments,
+      TaskCache cache,
+      ApplicationEventPublisher events
+  ) {
     this.tasks = tasks;
-    this.projects = projects;
+    this.access = access;
+    this.bulk = bulk;
+    this.sync = sync;
+    this.comments = comments;
+    this.cache = cache;
+    this.events = events;
   }
 
   @GetMapping
-  public ResponseEntity<List<TaskResponse>> list(
+  public ResponseEntity<CursorPage<TaskResponse>> list(
       @AuthenticationPrincipal UserDetails user,
-      @PathVariable UUID projectId
+      @PathVariable UUID projectId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit,
+      @RequestParam(required = false) String status,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime dueAfter,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime dueBefore,
+      WebRequest request
   ) {
-    requireOwnedProject(projectId, user.getUsername());
+    // rows and cache entries are keyed by the project owner, also for shared projects
+    String owner = access.requireRead(projectId, user.getUsername()).ownerEmail();
+
+    KeysetCursor after;
+    TaskFilter filter;
+    try {
+      after = KeysetCursor.decodeOrNull(cursor);
+      filter = new TaskFilter(
+          (status == null || status.isBlank()) ? null : TaskStatus.normalizeOrThrow(status),
+          dueAfter,
+          dueBefore
+      );
+    } catch (IllegalArgumentException e) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
 
-    List<TaskResponse> out = tasks
-        .findAllByOwnerEmailAndProjectIdOrderByCreatedAtDesc(user.getUsername(), projectId)
-        .stream()
-        .map(TaskResponse::from)
-        .toList();
+    int pageSize = CursorPage.clampLimit(limit);
 
-    return ResponseEntity.ok(out);
+    // 304 straight from the version queries, before any page is loaded;
+    // comment counts are part of the page, so their version is part of the tag
+    ListVersion version = tasks.findListVersion(owner, projectId);
+    String etag = ETags.weak(version, cursor, pageSize, filter, comments.findProjectVersion(projectId));
+    if (request.checkNotModified(etag)) return null;
+
+    boolean defaultView = after == null && pageSize == CursorPage.DEFAULT_LIMIT
+        && filter.status() == null && filter.dueAfter() == null && filter.dueBefore() == null;
+    CursorPage<TaskResponse> page = defaultView
+        ? cache.firstPage(owner, projectId, version, () -> loadPage(owner, projectId, filter, null, pageSize))
+        : loadPage(owner, projectId, filter, after, pageSize);
+
+    return ResponseEntity.ok().eTag(etag).body(withCommentCounts(page));
+  }
+
+  // delta sync: tasks changed and deleted since the cursor, oldest change first
+  @GetMapping("/changes")
+  public ResponseEntity<TaskChanges> changes(
+      @AuthenticationPrincipal UserDetails user,
+      @PathVariable UUID projectId,
+      @RequestParam(required = false) String since,
+      @RequestParam(defaultValue = "" + CursorPage.MAX_LIMIT) int limit
+  ) {
+    String owner = access.requireRead(projectId, user.getUsername()).ownerEmail();
+
+    SyncCursor after;
+    try {
+      after = SyncCursor.decodeOrNull(since);
+    } catch (IllegalArgumentException e) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    return ResponseEntity.ok(sync.changesSince(owner, projectId, after, CursorPage.clampLimit(limit)));
   }
 
   @GetMapping("/{taskId}")
@@ -51,12 +130,13 @@ public class TaskController {
       @PathVariable UUID projectId,
       @PathVariable UUID taskId
   ) {
-    requireOwnedProject(projectId, user.getUsername());
+    String owner = access.requireRead(projectId, user.getUsername()).ownerEmail();
 
-    Task task = tasks.findByIdAndOwnerEmailAndProjectId(taskId, user.getUsername(), projectId)
+    TaskResponse task = cache.getOne(owner, projectId, taskId)
         .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
 
-    return ResponseEntity.ok(TaskResponse.from(task));
+    // If-None-Match is evaluated against this header, a match is written as 304 without a body
+    return ResponseEntity.ok().eTag(ETags.strong(task.updatedAt())).body(task);
   }
 
   @PostMapping
@@ -65,7 +145,7 @@ public class TaskController {
       @PathVariable UUID projectId,
       @Valid @RequestBody CreateTaskRequest req
   ) {
-    requireOwnedProject(projectId, user.getUsername());
+    String owner = access.requireWrite(projectId, user.getUsername()).ownerEmail();
 
     String status = TaskStatus.defaultIfBlank(req.getStatus());
 
@@ -74,11 +154,39 @@ public class TaskController {
         .title(req.getTitle().trim())
         .status(status)
         .dueAt(req.getDueAt())
-        .ownerEmail(user.getUsername())
+        .ownerEmail(owner)
         .build();
 
-    Task saved = tasks.save(t);
-    return ResponseEntity.status(HttpStatus.CREATED).body(TaskResponse.from(saved));
+    // updated_at is stamped by the database (V17)
+    Task row = tasks.saveAndFlush(t);
+    row.setUpdatedAt(tasks.findUpdatedAt(List.of(row.getId())).get(row.getId()));
+    TaskResponse saved = TaskResponse.from(row);
+    cache.written(owner, saved);
+    events.publishEvent(TaskEvent.created(user.getUsername(), saved));
+    return ResponseEntity.status(HttpStatus.CREATED).body(saved);
+  }
+
+  @PostMapping("/bulk")
+  public ResponseEntity<TaskBulkDtos.BulkResponse> bulk(
+      @AuthenticationPrincipal UserDetails user,
+      @PathVariable UUID projectId,
+      @Valid @RequestBody TaskBulkDtos.BulkRequest req
+  ) {
+    // access is checked once for the whole batch
+    String owner = access.requireWrite(projectId, user.getUsername()).ownerEmail();
+
+    TaskBulkDtos.BulkResponse out = bulk.apply(owner, user.getUsername(), projectId, req.getOperations());
+
+    List<TaskResponse> written = new ArrayList<>();
+    List<UUID> deleted = new ArrayList<>();
+    for (TaskBulkDtos.ItemResult r : out.results()) {
+      if (r.error() != null) continue;
+      if (r.task() != null) written.add(r.task());
+      else if (r.id() != null) deleted.add(r.id());
+    }
+    cache.applied(owner, projectId, written, deleted);
+
+    return ResponseEntity.ok(out);
   }
 
   @PatchMapping("/{taskId}")
@@ -86,45 +194,57 @@ public class TaskController {
       @AuthenticationPrincipal UserDetails user,
       @PathVariable UUID projectId,
       @PathVariable UUID taskId,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
       @RequestBody UpdateTaskRequest req
   ) {
-    requireOwnedProject(projectId, user.getUsername());
-
-    Task task = tasks.findByIdAndOwnerEmailAndProjectId(taskId, user.getUsername(), projectId)
-        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
-
-    boolean changed = false;
-
+    String title = null;
     if (req.getTitle() != null) {
-      String title = req.getTitle().trim();
+      title = req.getTitle().trim();
       if (title.isEmpty()) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "title cannot be blank");
       if (title.length() < 2 || title.length() > 200) {
         throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "title must be 2-200 characters");
       }
-      task.setTitle(title);
-      changed = true;
     }
 
+    String status = null;
     if (req.getStatus() != null) {
       try {
-        task.setStatus(TaskStatus.normalizeOrThrow(req.getStatus()));
+        status = TaskStatus.normalizeOrThrow(req.getStatus());
       } catch (IllegalArgumentException e) {
         throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
       }
-      changed = true;
     }
 
-    if (req.getDueAt() != null) {
-      task.setDueAt(req.getDueAt());
-      changed = true;
+    TaskPatch patch = new TaskPatch(title, status, req.getDueAt());
+    if (patch.isEmpty()) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No updatable fields provided");
     }
 
-    if (!changed) {
-      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No updatable fields provided");
+    String caller = user.getUsername();
+    List<OffsetDateTime> expected = ETags.expectedVersions(ifMatch);
+
+    // owner fast path: one UPDATE ... RETURNING whose owner/project predicates are the access check;
+    // If-Match becomes an updated_at predicate on the same statement
+    Optional<TaskResponse> result = tasks.updateReturning(taskId, caller, projectId, patch, expected);
+    String owner = caller;
+    if (result.isEmpty()) {
+      // not the caller's row: a shared project resolves to its owner (404/403 otherwise) and retries
+      owner = access.requireWrite(projectId, caller).ownerEmail();
+      if (!owner.equals(caller)) result = tasks.updateReturning(taskId, owner, projectId, patch, expected);
     }
 
-    Task saved = tasks.save(task);
-    return ResponseEntity.ok(TaskResponse.from(saved));
+    String rowOwner = owner;
+    TaskResponse saved = result.orElseThrow(() -> {
+      // only a failed precondition needs the extra lookup to tell 412 from 404
+      if (expected != null && tasks.existsOwned(taskId, rowOwner, projectId)) {
+        return new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "task was modified");
+      }
+      return new ResponseStatusException(HttpStatus.NOT_FOUND);
+    });
+
+    cache.written(owner, saved);
+    events.publishEvent(TaskEvent.updated(caller, saved));
+    return ResponseEntity.ok().eTag(ETags.strong(saved.updatedAt())).body(saved);
   }
 
   @DeleteMapping("/{taskId}")
@@ -133,19 +253,40 @@ public class TaskController {
       @PathVariable UUID projectId,
       @PathVariable UUID taskId
   ) {
-    requireOwnedProject(projectId, user.getUsername());
-
-    Task task = tasks.findByIdAndOwnerEmailAndProjectId(taskId, user.getUsername(), projectId)
-        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+    String caller = user.getUsername();
+
+    // same owner fast path as update
+    Optional<TaskResponse> deleted = tasks.deleteReturning(taskId, caller, projectId);
+    String owner = caller;
+    if (deleted.isEmpty()) {
+      owner = access.requireWrite(projectId, caller).ownerEmail();
+      if (!owner.equals(caller)) deleted = tasks.deleteReturning(taskId, owner, projectId);
+    }
+    deleted.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
 
-    tasks.delete(task);
+    cache.deleted(owner, projectId, List.of(taskId));
+    events.publishEvent(TaskEvent.deleted(caller, projectId, taskId));
     return ResponseEntity.noContent().build();
   }
 
-  private Project requireOwnedProject(UUID projectId, String ownerEmail) {
-    Optional<Project> project = projects.findByIdAndOwnerEmail(projectId, ownerEmail);
-    if (project.isEmpty()) throw new ResponseStatusException(HttpStatus.NOT_FOUND);
-    return project.get();
+  private CursorPage<TaskResponse> loadPage(String owner, UUID projectId, TaskFilter filter, KeysetCursor after, int pageSize) {
+    List<TaskResponse> rows = tasks.findPage(owner, projectId, filter, after, pageSize + 1);
+    return CursorPage.of(rows, pageSize, t -> new KeysetCursor(t.createdAt(), t.id()));
+  }
+
+  // one grouped count for the whole page, applied after the cache so counts are never stale
+  private CursorPage<TaskResponse> withCommentCounts(CursorPage<TaskResponse> page) {
+    if (page.items().isEmpty()) return page;
+
+    List<UUID> ids = new ArrayList<>(page.items().size());
+    for (TaskResponse t : page.items()) ids.add(t.id());
+
+    Map<UUID, Long> counts = new HashMap<>();
+    for (CommentCount c : comments.countByEntityIds(Comment.TASK, ids)) counts.put(c.entityId(), c.count());
+
+    List<TaskResponse> items = new ArrayList<>(page.items().size());
+    for (TaskResponse t : page.items()) items.add(t.withCommentCount(counts.getOrDefault(t.id(), 0L).intValue()));
+    return new CursorPage<>(List.copyOf(items), page.nextCursor());
   }
 
   public static class CreateTaskRequest {
@@ -0,0 +1,29 @@
+package com.teamops.api.task;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+// Published (Spring application event) by every task write path
+public record TaskEvent(
+    Type type,
+    UUID projectId,
+    UUID taskId,
+    String actorEmail, // who made the change: the project owner or a workspace member
+    TaskResponse task, // null for DELETED
+    OffsetDateTime at
+) {
+  public enum Type { CREATED, UPDATED, DELETED }
+
+  public static TaskEvent created(String actorEmail, TaskResponse t) {
+    return new TaskEvent(Type.CREATED, t.projectId(), t.id(), actorEmail, t, OffsetDateTime.now(ZoneOffset.UTC));
+  }
+
+  public static TaskEvent updated(String actorEmail, TaskResponse t) {
+    return new TaskEvent(Type.UPDATED, t.projectId(), t.id(), actorEmail, t, OffsetDateTime.now(ZoneOffset.UTC));
+  }
+
+  public static TaskEvent deleted(String actorEmail, UUID projectId, UUID taskId) {
+    return new TaskEvent(Type.DELETED, projectId, taskId, actorEmail, null, OffsetDateTime.now(ZoneOffset.UTC));
+  }
+}
@@ -0,0 +1,10 @@
+package com.teamops.api.task;
+
+import java.time.OffsetDateTime;
+
+// Optional server-side filters for task listing; null fields are ignored
+public record TaskFilter(
+    String status,
+    OffsetDateTime dueAfter,
+    OffsetDateTime dueBefore
+) {}
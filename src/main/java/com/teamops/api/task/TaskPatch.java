@@ -0,0 +1,14 @@
+package com.teamops.api.task;
+
+import java.time.OffsetDateTime;
+
+// Already-validated PATCH fields; null means "leave unchanged"
+public record TaskPatch(
+    String title,
+    String status,
+    OffsetDateTime dueAt
+) {
+  public boolean isEmpty() {
+    return title == null && status == null && dueAt == null;
+  }
+}
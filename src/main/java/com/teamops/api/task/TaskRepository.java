@@ -2,12 +2,14 @@ package com.teamops.api.task;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface TaskRepository extends JpaRepository<Task, UUID> {
-  List<Task> findAllByOwnerEmailAndProjectIdOrderByCreatedAtDesc(String ownerEmail, UUID projectId);
+public interface TaskRepository extends JpaRepository<Task, UUID>, TaskRepositoryCustom {
 
   Optional<Task> findByIdAndOwnerEmailAndProjectId(UUID id, String ownerEmail, UUID projectId);
+
+  List<Task> findAllByOwnerEmailAndProjectIdAndIdIn(String ownerEmail, UUID projectId, Collection<UUID> ids);
 }
@@ -0,0 +1,34 @@
+package com.teamops.api.task;
+
+import com.teamops.api.common.KeysetCursor;
+import com.teamops.api.common.ListVersion;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface TaskRepositoryCustom {
+
+  // newest first, keyset on (created_at, id); returns up to `fetchSize` rows after `after`
+  List<TaskResponse> findPage(String ownerEmail, UUID projectId, TaskFilter filter, KeysetCursor after, int fetchSize);
+
+  // count from project_task_counters + max(updated_at); changes whenever any task in the list does
+  ListVersion findListVersion(String ownerEmail, UUID projectId);
+
+  // updated_at as the database stamped it (V17), for rows just written through JPA
+  Map<UUID, OffsetDateTime> findUpdatedAt(Collection<UUID> ids);
+
+  // Single-statement conditional writes: ownership is part of the WHERE clause,
+  // so an empty result means "no such task for this owner/project" (404).
+  // A non-null expectedUpdatedAt adds the If-Match precondition to the same statement.
+
+  Optional<TaskResponse> updateReturning(
+      UUID id, String ownerEmail, UUID projectId, TaskPatch patch, Collection<OffsetDateTime> expectedUpdatedAt);
+
+  Optional<TaskResponse> deleteReturning(UUID id, String ownerEmail, UUID projectId);
+
+  boolean existsOwned(UUID id, String ownerEmail, UUID projectId);
+}
@@ -0,0 +1,154 @@
+package com.teamops.api.task;
+
+import com.teamops.api.common.KeysetCursor;
+import com.teamops.api.common.ListVersion;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+  private static final String RETURNING = " returning id, project_id, title, status, due_at, created_at, updated_at";
+
+  static final RowMapper<TaskResponse> ROW_MAPPER = (rs, rowNum) -> new TaskResponse(
+      rs.getObject("id", UUID.class),
+      rs.getObject("project_id", UUID.class),
+      rs.getString("title"),
+      rs.getString("status"),
+      rs.getObject("due_at", OffsetDateTime.class),
+      rs.getObject("created_at", OffsetDateTime.class),
+      rs.getObject("updated_at", OffsetDateTime.class)
+  );
+
+  @PersistenceContext
+  private EntityManager em;
+
+  private final NamedParameterJdbcTemplate jdbc;
+
+  TaskRepositoryCustomImpl(NamedParameterJdbcTemplate jdbc) {
+    this.jdbc = jdbc;
+  }
+
+  @Override
+  public List<TaskResponse> findPage(String ownerEmail, UUID projectId, TaskFilter filter, KeysetCursor after, int fetchSize) {
+    // select straight into the DTO; nothing ends up in the persistence context
+    StringBuilder jpql = new StringBuilder("""
+        select new com.teamops.api.task.TaskResponse(
+          t.id, t.projectId, t.title, t.status, t.dueAt, t.createdAt, t.updatedAt
+        )
+        from Task t
+        where t.ownerEmail = :ownerEmail and t.projectId = :projectId
+        """);
+
+    if (filter.status() != null) jpql.append(" and t.status = :status");
+    if (filter.dueAfter() != null) jpql.append(" and t.dueAt >= :dueAfter");
+    if (filter.dueBefore() != null) jpql.append(" and t.dueAt < :dueBefore");
+    if (after != null) {
+      jpql.append(" and (t.createdAt < :afterCreatedAt or (t.createdAt = :afterCreatedAt and t.id < :afterId))");
+    }
+    jpql.append(" order by t.createdAt desc, t.id desc");
+
+    TypedQuery<TaskResponse> q = em.createQuery(jpql.toString(), TaskResponse.class)
+        .setParameter("ownerEmail", ownerEmail)
+        .setParameter("projectId", projectId)
+        .setMaxResults(fetchSize);
+
+    if (filter.status() != null) q.setParameter("status", filter.status());
+    if (filter.dueAfter() != null) q.setParameter("dueAfter", filter.dueAfter());
+    if (filter.dueBefore() != null) q.setParameter("dueBefore", filter.dueBefore());
+    if (after != null) {
+      q.setParameter("afterCreatedAt", after.createdAt());
+      q.setParameter("afterId", after.id());
+    }
+
+    return q.getResultList();
+  }
+
+  @Override
+  public ListVersion findListVersion(String ownerEmail, UUID projectId) {
+    String sql = """
+        select
+          coalesce((select c.todo_count + c.in_progress_count + c.done_count
+                    from project_task_counters c where c.project_id = :projectId), 0) as n,
+          (select max(t.updated_at) from tasks t
+           where t.owner_email = :ownerEmail and t.project_id = :projectId) as max_updated_at
+        """;
+    MapSqlParameterSource params = new MapSqlParameterSource()
+        .addValue("ownerEmail", ownerEmail)
+        .addValue("projectId", projectId);
+    return jdbc.queryForObject(sql, params, (rs, rowNum) -> new ListVersion(
+        rs.getLong("n"),
+        rs.getObject("max_updated_at", OffsetDateTime.class)
+    ));
+  }
+
+  @Override
+  public Map<UUID, OffsetDateTime> findUpdatedAt(Collection<UUID> ids) {
+    Map<UUID, OffsetDateTime> out = new HashMap<>();
+    if (ids.isEmpty()) return out;
+    jdbc.query("select id, updated_at from tasks where id in (:ids)", new MapSqlParameterSource("ids", ids),
+        rs -> { out.put(rs.getObject("id", UUID.class), rs.getObject("updated_at", OffsetDateTime.class)); });
+    return out;
+  }
+
+  @Override
+  public Optional<TaskResponse> updateReturning(
+      UUID id, String ownerEmail, UUID projectId, TaskPatch patch, Collection<OffsetDateTime> expectedUpdatedAt) {
+    MapSqlParameterSource params = ownedBy(id, ownerEmail, projectId);
+
+    // only the columns being changed, so no untyped null binds. The V17 trigger stamps updated_at
+    // anyway; naming it keeps the SET list valid for an empty patch.
+    StringBuilder sql = new StringBuilder("update tasks set updated_at = clock_timestamp()");
+    if (patch.title() != null) {
+      sql.append(", title = :title");
+      params.addValue("title", patch.title());
+    }
+    if (patch.status() != null) {
+      sql.append(", status = :status");
+      params.addValue("status", patch.status());
+    }
+    if (patch.dueAt() != null) {
+      sql.append(", due_at = :dueAt");
+      params.addValue("dueAt", patch.dueAt());
+    }
+    sql.append(" where id = :id and owner_email = :ownerEmail and project_id = :projectId");
+    if (expectedUpdatedAt != null) {
+      if (expectedUpdatedAt.isEmpty()) return Optional.empty();
+      sql.append(" and updated_at in (:expectedUpdatedAt)");
+      params.addValue("expectedUpdatedAt", expectedUpdatedAt);
+    }
+    sql.append(RETURNING);
+
+    return jdbc.query(sql.toString(), params, ROW_MAPPER).stream().findFirst();
+  }
+
+  @Override
+  public Optional<TaskResponse> deleteReturning(UUID id, String ownerEmail, UUID projectId) {
+    String sql = "delete from tasks where id = :id and owner_email = :ownerEmail and project_id = :projectId" + RETURNING;
+    return jdbc.query(sql, ownedBy(id, ownerEmail, projectId), ROW_MAPPER).stream().findFirst();
+  }
+
+  @Override
+  public boolean existsOwned(UUID id, String ownerEmail, UUID projectId) {
+    String sql = "select exists(select 1 from tasks where id = :id and owner_email = :ownerEmail and project_id = :projectId)";
+    return Boolean.TRUE.equals(jdbc.queryForObject(sql, ownedBy(id, ownerEmail, projectId), Boolean.class));
+  }
+
+  private static MapSqlParameterSource ownedBy(UUID id, String ownerEmail, UUID projectId) {
+    return new MapSqlParameterSource()
+        .addValue("id", id)
+        .addValue("ownerEmail", ownerEmail)
+        .addValue("projectId", projectId);
+  }
+}
@@ -1,5 +1,7 @@
 package com.teamops.api.task;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
@@ -10,8 +12,22 @@ public record TaskResponse(
     String status,
     OffsetDateTime dueAt,
     OffsetDateTime createdAt,
-    OffsetDateTime updatedAt
+    OffsetDateTime updatedAt,
+    // only filled in on list pages (one grouped query per page); never cached
+    @JsonInclude(JsonInclude.Include.NON_NULL) Integer commentCount
 ) {
+  public TaskResponse(
+      UUID id,
+      UUID projectId,
+      String title,
+      String status,
+      OffsetDateTime dueAt,
+      OffsetDateTime createdAt,
+      OffsetDateTime updatedAt
+  ) {
+    this(id, projectId, title, status, dueAt, createdAt, updatedAt, null);
+  }
+
   public static TaskResponse from(Task t) {
     return new TaskResponse(
         t.getId(),
@@ -23,4 +39,8 @@ public record TaskResponse(
         t.getUpdatedAt()
     );
   }
+
+  public TaskResponse withCommentCount(int count) {
+    return new TaskResponse(id, projectId, title, status, dueAt, createdAt, updatedAt, count);
+  }
 }
@@ -0,0 +1,78 @@
+package com.teamops.api.task;
+
+import com.teamops.api.common.KeysetCursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class TaskSyncService {
+
+  private static final UUID MIN_ID = new UUID(0, 0);
+  // Postgres compares uuids as unsigned bytes, so this sorts after every id
+  private static final UUID MAX_ID = new UUID(-1, -1);
+  private static final OffsetDateTime BEGINNING = OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+  private final TaskChangeRepository changes;
+  private final Duration visibilityLag;
+  private final Duration tombstoneTtl;
+
+  public TaskSyncService(
+      TaskChangeRepository changes,
+      @Value("${app.sync.visibility-lag:PT5S}") Duration visibilityLag,
+      @Value("${app.sync.tombstone-ttl:P30D}") Duration tombstoneTtl
+  ) {
+    this.changes = changes;
+    this.visibilityLag = visibilityLag;
+    this.tombstoneTtl = tombstoneTtl;
+  }
+
+  // Caller has already verified project ownership. The cursor is a (changed_at, id) position plus
+  // the watermark the client is complete up to (see SyncCursor).
+  public TaskChanges changesSince(String ownerEmail, UUID projectId, SyncCursor since, int limit) {
+    // database clock, the one that stamped every row and tombstone this compares against
+    OffsetDateTime now = changes.now();
+
+    // client last caught up before the TTL -> tombstones it still needs may be compacted
+    if (since != null && since.syncedTo().isBefore(now.minus(tombstoneTtl))) {
+      return TaskChanges.reset();
+    }
+
+    // updated_at is stamped before commit, so the newest rows may still have invisible
+    // siblings with smaller timestamps; stopping short of them keeps the cursor from skipping those
+    OffsetDateTime upTo = now.minus(visibilityLag);
+    KeysetCursor after = since != null ? since.position() : new KeysetCursor(BEGINNING, MIN_ID);
+
+    List<TaskChangeRepository.Change> rows = changes.findAfter(ownerEmail, projectId, after, upTo, since != null, limit + 1);
+    boolean hasMore = rows.size() > limit;
+    if (hasMore) rows = rows.subList(0, limit);
+
+    List<TaskResponse> updated = new ArrayList<>();
+    List<UUID> deleted = new ArrayList<>();
+    for (TaskChangeRepository.Change c : rows) {
+      if (c.task() == null) deleted.add(c.id());
+      else updated.add(c.task());
+    }
+
+    SyncCursor next;
+    if (hasMore) {
+      // mid-walk: keep the watermark the walk started from (this request's for an initial sync);
+      // tasks handed out earlier in the walk may have been deleted since
+      TaskChangeRepository.Change last = rows.get(rows.size() - 1);
+      next = new SyncCursor(last.changedAt(), last.id(), since != null ? since.syncedTo() : upTo);
+    } else if (upTo.isAfter(after.createdAt())) {
+      // everything visible up to `upTo` was returned, so it is safe to resume from there
+      next = new SyncCursor(upTo, MAX_ID, upTo);
+    } else {
+      next = new SyncCursor(after.createdAt(), after.id(), upTo);
+    }
+
+    return new TaskChanges(List.copyOf(updated), List.copyOf(deleted), next.encode(), hasMore, false);
+  }
+}
@@ -0,0 +1,46 @@
+package com.teamops.api.task;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// Drops tombstones older than the sync TTL; clients with an older cursor get resetRequired instead.
+@Component
+public class TombstoneCompactor {
+
+  private static final Logger log = LoggerFactory.getLogger(TombstoneCompactor.class);
+
+  private final TaskChangeRepository changes;
+  private final Duration tombstoneTtl;
+  private final int batchSize;
+
+  public TombstoneCompactor(
+      TaskChangeRepository changes,
+      @Value("${app.sync.tombstone-ttl:P30D}") Duration tombstoneTtl,
+      @Value("${app.sync.compact-batch-size:5000}") int batchSize
+  ) {
+    this.changes = changes;
+    this.tombstoneTtl = tombstoneTtl;
+    this.batchSize = batchSize;
+  }
+
+  @Scheduled(
+      initialDelayString = "${app.sync.compact-initial-delay:PT5M}",
+      fixedDelayString = "${app.sync.compact-interval:PT1H}"
+  )
+  public void compact() {
+    int total = 0;
+    int n;
+    // each batch commits on its own; concurrent runs on other nodes just find less to delete
+    do {
+      n = changes.compact(tombstoneTtl, batchSize);
+      total += n;
+    } while (n == batchSize);
+
+    if (total > 0) log.info("compacted {} task tombstone(s)", total);
+  }
+}
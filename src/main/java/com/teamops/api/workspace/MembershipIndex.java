@@ -0,0 +1,63 @@
+package com.teamops.api.workspace;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teamops.api.cache.InvalidationBus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+// Per-user workspace -> role map, loaded lazily in one query and kept on-heap, so an authorization
+// check is a hash lookup however many workspaces the user is in. Membership writes call
+// invalidate(), which also tells the other nodes over the invalidation bus.
+public class MembershipIndex {
+
+  static final String REGION = "memberships";
+
+  private final String nodeId = UUID.randomUUID().toString();
+  private final Function<String, Memberships> loader;
+  private final InvalidationBus bus;
+  private final Cache<String, Memberships> cache;
+
+  public MembershipIndex(
+      Function<String, Memberships> loader,
+      InvalidationBus bus,
+      WorkspaceProperties props,
+      MeterRegistry registry
+  ) {
+    this.loader = loader;
+    this.bus = bus;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(props.getMembershipCacheMaxSize())
+        .expireAfterWrite(props.getMembershipCacheTtl())
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(registry, cache, "workspace.memberships");
+
+    bus.subscribe(REGION, msg -> {
+      if (!nodeId.equals(msg.origin())) cache.invalidateAll(msg.keys());
+    });
+  }
+
+  // null when the user is not a member
+  public WorkspaceRole roleOf(String email, UUID workspaceId) {
+    return memberships(email).roleIn(workspaceId);
+  }
+
+  // concurrent misses for the same user share one load
+  public Memberships memberships(String email) {
+    return cache.get(email, loader);
+  }
+
+  // call after the membership change has committed; an in-flight load for the same user
+  // finishes first and is then discarded, so it can't put a pre-change copy back
+  public void invalidate(Collection<String> emails) {
+    if (emails.isEmpty()) return;
+    cache.invalidateAll(emails);
+    bus.publish(REGION, nodeId, List.copyOf(emails));
+  }
+}
@@ -0,0 +1,18 @@
+package com.teamops.api.workspace;
+
+import java.util.Map;
+import java.util.UUID;
+
+// Everything one user can reach through workspaces; immutable, so cached copies are shared freely
+public record Memberships(Map<UUID, WorkspaceRole> roles) {
+
+  public static final Memberships NONE = new Memberships(Map.of());
+
+  public Memberships {
+    roles = Map.copyOf(roles);
+  }
+
+  public WorkspaceRole roleIn(UUID workspaceId) {
+    return workspaceId == null ? null : roles.get(workspaceId);
+  }
+}
@@ -0,0 +1,88 @@
+package com.teamops.api.workspace;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teamops.api.cache.InvalidationBus;
+import com.teamops.api.project.ProjectRef;
+import com.teamops.api.project.ProjectRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.UUID;
+
+// Authorizes a caller on a project: the owner always, workspace members by role when the project is
+// shared. Both halves are answered from memory once warm: project refs here (keyed by project, so one
+// entry serves every caller), roles from MembershipIndex.
+@Component
+public class ProjectAccess {
+
+  // Task rows and cache keys stay scoped by the project owner's email, so callers
+  // use ownerEmail() for data access, whoever is asking.
+  public record Grant(UUID projectId, String ownerEmail, WorkspaceRole role) {}
+
+  static final String REGION = "project-refs";
+
+  private final String nodeId = UUID.randomUUID().toString();
+  private final ProjectRepository projects;
+  private final MembershipIndex memberships;
+  private final InvalidationBus bus;
+  // only existing projects are cached; a miss for an unknown id always goes to the database
+  private final Cache<UUID, ProjectRef> refs;
+
+  public ProjectAccess(
+      ProjectRepository projects,
+      MembershipIndex memberships,
+      InvalidationBus bus,
+      WorkspaceProperties props,
+      MeterRegistry registry
+  ) {
+    this.projects = projects;
+    this.memberships = memberships;
+    this.bus = bus;
+    this.refs = Caffeine.newBuilder()
+        .maximumSize(props.getProjectRefCacheMaxSize())
+        .expireAfterWrite(props.getProjectRefCacheTtl())
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(registry, refs, "workspace.project_refs");
+
+    bus.subscribe(REGION, msg -> {
+      if (!nodeId.equals(msg.origin())) msg.keys().forEach(k -> refs.invalidate(UUID.fromString(k)));
+    });
+  }
+
+  public Grant requireRead(UUID projectId, String callerEmail) {
+    return require(projectId, callerEmail, false);
+  }
+
+  public Grant requireWrite(UUID projectId, String callerEmail) {
+    return require(projectId, callerEmail, true);
+  }
+
+  private Grant require(UUID projectId, String callerEmail, boolean write) {
+    ProjectRef ref = refs.get(projectId, id -> projects.findRef(id).orElse(null));
+    if (ref == null) throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+
+    WorkspaceRole role = ref.ownerEmail().equals(callerEmail)
+        ? WorkspaceRole.OWNER
+        : (ref.workspaceId() == null ? null : memberships.roleOf(callerEmail, ref.workspaceId()));
+
+    // not shared with the caller: indistinguishable from a missing project
+    if (role == null) throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+    if (write && !role.canWrite()) throw new ResponseStatusException(HttpStatus.FORBIDDEN, "read-only access to this project");
+
+    return new Grant(projectId, ref.ownerEmail(), role);
+  }
+
+  // call after a project is deleted or moved between workspaces (and the change has committed).
+  // Membership changes don't need this: roles come from MembershipIndex, and a deleted workspace
+  // has no members left to match a stale workspaceId.
+  public void evict(UUID projectId) {
+    refs.invalidate(projectId);
+    bus.publish(REGION, nodeId, List.of(projectId.toString()));
+  }
+}
@@ -0,0 +1,22 @@
+package com.teamops.api.workspace;
+
+import com.teamops.api.cache.InvalidationBus;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(WorkspaceProperties.class)
+public class WorkspaceConfig {
+
+  @Bean
+  public MembershipIndex membershipIndex(
+      WorkspaceRepository workspaces,
+      InvalidationBus bus,
+      WorkspaceProperties props,
+      MeterRegistry registry
+  ) {
+    return new MembershipIndex(workspaces::loadMemberships, bus, props, registry);
+  }
+}
@@ -0,0 +1,252 @@
+package com.teamops.api.workspace;
+
+import com.teamops.api.common.CursorPage;
+import com.teamops.api.common.KeysetCursor;
+import com.teamops.api.project.ProjectRepository;
+import com.teamops.api.project.ProjectResponse;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/workspaces")
+public class WorkspaceController {
+
+  private final WorkspaceRepository workspaces;
+  private final ProjectRepository projects;
+  private final MembershipIndex index;
+  private final ProjectAccess access;
+  private final TransactionTemplate tx;
+
+  public WorkspaceController(
+      WorkspaceRepository workspaces,
+      ProjectRepository projects,
+      MembershipIndex index,
+      ProjectAccess access,
+      TransactionTemplate tx
+  ) {
+    this.workspaces = workspaces;
+    this.projects = projects;
+    this.index = index;
+    this.access = access;
+    this.tx = tx;
+  }
+
+  @PostMapping
+  public ResponseEntity<WorkspaceResponse> create(
+      @AuthenticationPrincipal UserDetails user,
+      @Valid @RequestBody CreateWorkspaceRequest req
+  ) {
+    WorkspaceResponse created = workspaces.create(req.getName().trim(), user.getUsername())
+        .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED));
+
+    index.invalidate(List.of(user.getUsername()));
+    return ResponseEntity.status(HttpStatus.CREATED).body(created);
+  }
+
+  @GetMapping
+  public ResponseEntity<List<WorkspaceResponse>> mine(@AuthenticationPrincipal UserDetails user) {
+    return ResponseEntity.ok(workspaces.findForUser(user.getUsername()));
+  }
+
+  @GetMapping("/{workspaceId}/members")
+  public ResponseEntity<List<WorkspaceMember>> members(
+      @AuthenticationPrincipal UserDetails user,
+      @PathVariable UUID workspaceId
+  ) {
+    requireRole(workspaceId, user.getUsername());
+    return ResponseEntity.ok(workspaces.findMembers(workspaceId));
+  }
+
+  // add a member or change their role
+  @PutMapping("/{workspaceId}/members")
+  public ResponseEntity<Void> putMember(
+      @AuthenticationPrincipal UserDetails user,
+      @PathVariable UUID workspaceId,
+      @Valid @RequestBody PutMemberRequest req
+  ) {
+    requireManager(workspaceId, user.getUsername());
+
+    WorkspaceRole role;
+    try {
+      role = WorkspaceRole.parseOrThrow(req.getRole());
+    } catch (IllegalArgumentException e) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+    String email = req.getEmail().trim().toLowerCase();
+
+    tx.executeWithoutResult(status -> {
+      lockOrNotFound(workspaceId);
+      if (role != WorkspaceRole.OWNER && isOwner(workspaceId, email)) {
+        requireAnotherOwner(workspaceId);
+      }
+      if (!workspaces.upsertMember(workspaceId, email, role)) {
+        throw new ResponseStatusException(HttpStatus.NOT_FOUND, "no user with that email");
+      }
+    });
+
+    index.invalidate(List.of(email));
+    return ResponseEntity.noContent().build();
+  }
+
+  // managers remove anyone; everyone can leave
+  @DeleteMapping("/{workspaceId}/members/{email}")
+  public ResponseEntity<Void> removeMember(
+      @AuthenticationPrincipal UserDetails user,
+      @PathVariable UUID workspaceId,
+      @PathVariable String email
+  ) {
+    String target = email.trim().toLowerCase();
+    WorkspaceRole callerRole = requireRole(workspaceId, user.getUsername());
+    if (!callerRole.canManage() && !target.equals(user.getUsername())) {
+      throw new ResponseStatusException(HttpStatus.FORBIDDEN, "only workspace owners can remove members");
+    }
+
+    tx.executeWithoutResult(status -> {
+      lockOrNotFound(workspaceId);
+      if (isOwner(workspaceId, target)) requireAnotherOwner(workspaceId);
+      if (!workspaces.removeMember(workspaceId, target)) {
+        throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+      }
+    });
+
+    index.invalidate(List.of(target));
+    return ResponseEntity.noContent().build();
+  }
+
+  // shared projects fall back to owner-only (workspace_id is set null by the FK)
+  @DeleteMapping("/{workspaceId}")
+  public ResponseEntity<Void> delete(
+      @AuthenticationPrincipal UserDetails user,
+      @PathVariable UUID workspaceId
+  ) {
+    requireManager(workspaceId, user.getUsername());
+
+    List<String> former = workspaces.delete(workspaceId);
+    index.invalidate(former);
+    return ResponseEntity.noContent().build();
+  }
+
+  @GetMapping("/{workspaceId}/projects")
+  public ResponseEntity<CursorPage<ProjectResponse>> projects(
+      @AuthenticationPrincipal UserDetails user,
+      @PathVariable UUID workspaceId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit
+  ) {
+    requireRole(workspaceId, user.getUsername());
+
+    KeysetCursor after;
+    try {
+      after = KeysetCursor.decodeOrNull(cursor);
+    } catch (IllegalArgumentException e) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    int pageSize = CursorPage.clampLimit(limit);
+    PageRequest fetch = PageRequest.of(0, pageSize + 1);
+
+    List<ProjectResponse> rows = (after == null)
+        ? projects.findWorkspaceFirstPage(workspaceId, fetch)
+        : projects.findWorkspacePageAfter(workspaceId, after.createdAt(), after.id(), fetch);
+
+    return ResponseEntity.ok(CursorPage.of(rows, pageSize, p -> new KeysetCursor(p.createdAt(), p.id())));
+  }
+
+  // only the project owner shares, and only into a workspace where they can write
+  @PutMapping("/{workspaceId}/projects/{projectId}")
+  public ResponseEntity<Void> share(
+      @AuthenticationPrincipal UserDetails user,
+      @PathVariable UUID workspaceId,
+      @PathVariable UUID projectId
+  ) {
+    if (!requireRole(workspaceId, user.getUsername()).canWrite()) {
+      throw new ResponseStatusException(HttpStatus.FORBIDDEN, "read-only access to this workspace");
+    }
+    if (projects.updateWorkspace(projectId, user.getUsername(), workspaceId) == 0) {
+      throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+    }
+    access.evict(projectId);
+    return ResponseEntity.noContent().build();
+  }
+
+  @DeleteMapping("/{workspaceId}/projects/{projectId}")
+  public ResponseEntity<Void> unshare(
+      @AuthenticationPrincipal UserDetails user,
+      @PathVariable UUID workspaceId,
+      @PathVariable UUID projectId
+  ) {
+    boolean owned = projects.findRef(projectId)
+        .filter(ref -> workspaceId.equals(ref.workspaceId()))
+        .filter(ref -> ref.ownerEmail().equals(user.getUsername()))
+        .isPresent();
+    if (!owned || projects.updateWorkspace(projectId, user.getUsername(), null) == 0) {
+      throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+    }
+    access.evict(projectId);
+    return ResponseEntity.noContent().build();
+  }
+
+  // non-members get 404, same as a missing workspace
+  private WorkspaceRole requireRole(UUID workspaceId, String email) {
+    WorkspaceRole role = index.roleOf(email, workspaceId);
+    if (role == null) throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+    return role;
+  }
+
+  private void requireManager(UUID workspaceId, String email) {
+    if (!requireRole(workspaceId, email).canManage()) {
+      throw new ResponseStatusException(HttpStatus.FORBIDDEN, "only workspace owners can do this");
+    }
+  }
+
+  private void lockOrNotFound(UUID workspaceId) {
+    if (!workspaces.lock(workspaceId)) throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+  }
+
+  private boolean isOwner(UUID workspaceId, String email) {
+    return workspaces.findRole(workspaceId, email).orElse(null) == WorkspaceRole.OWNER;
+  }
+
+  private void requireAnotherOwner(UUID workspaceId) {
+    if (workspaces.countOwners(workspaceId) <= 1) {
+      throw new ResponseStatusException(HttpStatus.CONFLICT, "a workspace needs at least one owner");
+    }
+  }
+
+  public static class CreateWorkspaceRequest {
+    @NotBlank
+    @Size(min = 2, max = 160)
+    private String name;
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+  }
+
+  public static class PutMemberRequest {
+    @NotBlank
+    @Email
+    private String email;
+
+    @NotBlank
+    private String role;
+
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+
+    public String getRole() { return role; }
+    public void setRole(String role) { this.role = role; }
+  }
+}
@@ -0,0 +1,5 @@
+package com.teamops.api.workspace;
+
+import java.time.OffsetDateTime;
+
+public record WorkspaceMember(String email, String displayName, WorkspaceRole role, OffsetDateTime joinedAt) {}
@@ -0,0 +1,22 @@
+package com.teamops.api.workspace;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.workspaces")
+public class WorkspaceProperties {
+
+  // per-user membership index; changes are invalidated explicitly (all nodes via the
+  // invalidation bus), the TTL only bounds a missed broadcast
+  private long membershipCacheMaxSize = 100_000;
+  private Duration membershipCacheTtl = Duration.ofMinutes(10);
+
+  // project id -> owner/workspace refs behind every access check; evicted on delete and (un)share
+  private long projectRefCacheMaxSize = 50_000;
+  private Duration projectRefCacheTtl = Duration.ofMinutes(10);
+}
@@ -0,0 +1,165 @@
+package com.teamops.api.workspace;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+// workspaces + workspace_members (V1); members are users, addressed by email at the API
+@Repository
+public class WorkspaceRepository {
+
+  private final NamedParameterJdbcTemplate jdbc;
+
+  public WorkspaceRepository(NamedParameterJdbcTemplate jdbc) {
+    this.jdbc = jdbc;
+  }
+
+  // the whole membership set of one user in a single range scan (idx_workspace_members_user)
+  public Memberships loadMemberships(String email) {
+    Map<UUID, WorkspaceRole> roles = new HashMap<>();
+    jdbc.query("""
+        select m.workspace_id, m.role
+        from users u
+        join workspace_members m on m.user_id = u.id
+        where u.email = :email
+        """, new MapSqlParameterSource("email", email), rs -> {
+      roles.put(rs.getObject("workspace_id", UUID.class), WorkspaceRole.valueOf(rs.getString("role")));
+    });
+    return roles.isEmpty() ? Memberships.NONE : new Memberships(roles);
+  }
+
+  // creator becomes OWNER in the same statement; empty if the creator has no users row
+  public Optional<WorkspaceResponse> create(String name, String creatorEmail) {
+    List<WorkspaceResponse> rows = jdbc.query("""
+        with ws as (
+          insert into workspaces (name)
+          select :name where exists (select 1 from users where email = :email)
+          returning id, name, created_at
+        ), owner as (
+          insert into workspace_members (workspace_id, user_id, role)
+          select ws.id, u.id, 'OWNER' from ws, users u where u.email = :email
+          returning workspace_id
+        )
+        select ws.id, ws.name, ws.created_at from ws join owner on owner.workspace_id = ws.id
+        """, new MapSqlParameterSource()
+        .addValue("name", name)
+        .addValue("email", creatorEmail), (rs, rowNum) -> new WorkspaceResponse(
+        rs.getObject("id", UUID.class),
+        rs.getString("name"),
+        WorkspaceRole.OWNER,
+        rs.getObject("created_at", OffsetDateTime.class)
+    ));
+    return rows.stream().findFirst();
+  }
+
+  public List<WorkspaceResponse> findForUser(String email) {
+    return jdbc.query("""
+        select w.id, w.name, m.role, w.created_at
+        from users u
+        join workspace_members m on m.user_id = u.id
+        join workspaces w on w.id = m.workspace_id
+        where u.email = :email
+        order by w.created_at desc, w.id desc
+        """, new MapSqlParameterSource("email", email), (rs, rowNum) -> new WorkspaceResponse(
+        rs.getObject("id", UUID.class),
+        rs.getString("name"),
+        WorkspaceRole.valueOf(rs.getString("role")),
+        rs.getObject("created_at", OffsetDateTime.class)
+    ));
+  }
+
+  public List<WorkspaceMember> findMembers(UUID workspaceId) {
+    return jdbc.query("""
+        select u.email, u.display_name, m.role, m.created_at
+        from workspace_members m
+        join users u on u.id = m.user_id
+        where m.workspace_id = :workspaceId
+        order by m.created_at, u.email
+        """, new MapSqlParameterSource("workspaceId", workspaceId), (rs, rowNum) -> new WorkspaceMember(
+        rs.getString("email"),
+        rs.getString("display_name"),
+        WorkspaceRole.valueOf(rs.getString("role")),
+        rs.getObject("created_at", OffsetDateTime.class)
+    ));
+  }
+
+  // insert or change role; false if there is no user with that email
+  public boolean upsertMember(UUID workspaceId, String email, WorkspaceRole role) {
+    int n = jdbc.update("""
+        insert into workspace_members (workspace_id, user_id, role)
+        select :workspaceId, u.id, :role from users u where u.email = :email
+        on conflict (workspace_id, user_id) do update set role = excluded.role
+        """, new MapSqlParameterSource()
+        .addValue("workspaceId", workspaceId)
+        .addValue("email", email)
+        .addValue("role", role.name()));
+    return n > 0;
+  }
+
+  public boolean removeMember(UUID workspaceId, String email) {
+    int n = jdbc.update("""
+        delete from workspace_members m
+        using users u
+        where m.user_id = u.id and m.workspace_id = :workspaceId and u.email = :email
+        """, new MapSqlParameterSource()
+        .addValue("workspaceId", workspaceId)
+        .addValue("email", email));
+    return n > 0;
+  }
+
+  // serializes member changes per workspace so the last OWNER can't be removed twice concurrently;
+  // false if the workspace does not exist. Caller owns the transaction.
+  public boolean lock(UUID workspaceId) {
+    List<UUID> ids = jdbc.queryForList(
+        "select id from workspaces where id = :workspaceId for update",
+        new MapSqlParameterSource("workspaceId", workspaceId),
+        UUID.class
+    );
+    return !ids.isEmpty();
+  }
+
+  // straight from the table; the last-owner checks must not trust a cached role
+  public Optional<WorkspaceRole> findRole(UUID workspaceId, String email) {
+    List<String> roles = jdbc.queryForList("""
+        select m.role
+        from workspace_members m
+        join users u on u.id = m.user_id
+        where m.workspace_id = :workspaceId and u.email = :email
+        """, new MapSqlParameterSource()
+        .addValue("workspaceId", workspaceId)
+        .addValue("email", email), String.class);
+    return roles.stream().findFirst().map(WorkspaceRole::valueOf);
+  }
+
+  public int countOwners(UUID workspaceId) {
+    Integer n = jdbc.queryForObject(
+        "select count(*) from workspace_members where workspace_id = :workspaceId and role = 'OWNER'",
+        new MapSqlParameterSource("workspaceId", workspaceId),
+        Integer.class
+    );
+    return n == null ? 0 : n;
+  }
+
+  // returns the former members' emails so their cached memberships can be dropped;
+  // one statement, so nobody can join in between and keep a stale entry
+  public List<String> delete(UUID workspaceId) {
+    return jdbc.queryForList("""
+        with gone as (
+          delete from workspace_members m
+          using users u
+          where m.user_id = u.id and m.workspace_id = :workspaceId
+          returning u.email
+        ), ws as (
+          delete from workspaces where id = :workspaceId
+        )
+        select email from gone
+        """, new MapSqlParameterSource("workspaceId", workspaceId), String.class);
+  }
+}
@@ -0,0 +1,7 @@
+package com.teamops.api.workspace;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+// a workspace as seen by one member
+public record WorkspaceResponse(UUID id, String name, WorkspaceRole role, OffsetDateTime createdAt) {}
@@ -0,0 +1,26 @@
+package com.teamops.api.workspace;
+
+import java.util.Locale;
+
+public enum WorkspaceRole {
+  OWNER, // manages members, writes
+  EDITOR, // reads and writes shared projects' tasks
+  VIEWER; // read-only
+
+  public boolean canWrite() {
+    return this != VIEWER;
+  }
+
+  public boolean canManage() {
+    return this == OWNER;
+  }
+
+  public static WorkspaceRole parseOrThrow(String raw) {
+    if (raw == null || raw.isBlank()) throw new IllegalArgumentException("role is required (OWNER, EDITOR, VIEWER)");
+    try {
+      return valueOf(raw.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("role must be one of OWNER, EDITOR, VIEWER");
+    }
+  }
+}
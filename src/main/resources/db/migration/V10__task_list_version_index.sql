@@ -0,0 +1,4 @@
+-- Backs the list ETag version query: max(updated_at) per (owner, project) is a single index probe.
+-- Counts come from project_task_counters, so nothing here needs to scan the project's tasks.
+create index if not exists idx_tasks_owner_project_updated
+  on tasks(owner_email, project_id, updated_at desc);
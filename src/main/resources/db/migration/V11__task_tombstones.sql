@@ -0,0 +1,39 @@
+-- Delta sync: deleted tasks leave a tombstone so clients can drop their local copy.
+-- Rows are compacted after app.sync.tombstone-ttl; clients older than that must resync from scratch.
+create table if not exists task_tombstones (
+  task_id uuid primary key,
+  project_id uuid not null,
+  deleted_at timestamptz not null
+);
+
+create index if not exists idx_task_tombstones_project_deleted
+  on task_tombstones(project_id, deleted_at, task_id);
+
+-- compaction scans by age only
+create index if not exists idx_task_tombstones_deleted
+  on task_tombstones(deleted_at);
+
+create or replace function task_tombstones_on_delete() returns trigger
+language plpgsql as $$
+begin
+  -- clock_timestamp(), not now(): closer to commit time, so the sync visibility lag has less to cover
+  insert into task_tombstones (task_id, project_id, deleted_at)
+  select o.id, o.project_id, clock_timestamp()
+  from old_rows o
+  -- a project delete cascades here; nobody can sync a project that no longer exists
+  where exists (select 1 from projects p where p.id = o.project_id)
+  on conflict (task_id) do update set deleted_at = excluded.deleted_at;
+  return null;
+end $$;
+
+create trigger tasks_tombstones_delete
+  after delete on tasks
+  referencing old table as old_rows
+  for each statement execute function task_tombstones_on_delete();
+
+-- changes feed walks (updated_at, id) ascending; also serves max(updated_at) for list ETags (backward scan)
+create index if not exists idx_tasks_owner_project_changes
+  on tasks(owner_email, project_id, updated_at, id);
+
+-- superseded by idx_tasks_owner_project_changes (same leading columns)
+drop index if exists idx_tasks_owner_project_updated;
@@ -0,0 +1,4 @@
+-- Audit rows are written before projects/tasks belong to a workspace, and actors are identified
+-- by their login email (what the JWT carries), so no users lookup is needed on the write path.
+alter table audit_events alter column workspace_id drop not null;
+alter table audit_events add column if not exists actor_email varchar(255);
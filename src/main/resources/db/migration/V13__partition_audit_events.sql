@@ -0,0 +1,61 @@
+-- audit_events becomes a range-partitioned table, one partition per calendar month (UTC).
+-- Retention drops whole partitions instead of DELETE + vacuum, and time-bounded queries
+-- only touch the months they cover. Partitions ahead of time are created by
+-- AuditPartitionMaintainer through audit_events_ensure_partition().
+
+alter table audit_events rename to audit_events_legacy;
+alter index if exists idx_audit_workspace rename to idx_audit_legacy_workspace;
+alter index if exists idx_audit_created_at rename to idx_audit_legacy_created_at;
+
+-- no foreign keys: audit rows must outlive the users/workspaces they mention, and FK checks
+-- on every insert/delete would cost more than the table is worth
+create table audit_events (
+  id uuid not null default gen_random_uuid(),
+  workspace_id uuid,
+  actor_user_id uuid,
+  actor_email varchar(255),
+  action varchar(80) not null,
+  entity_type varchar(30) not null,
+  entity_id uuid,
+  metadata jsonb,
+  created_at timestamptz not null default now(),
+  -- the partition key has to be part of every unique constraint
+  primary key (id, created_at)
+) partition by range (created_at);
+
+-- partitioned indexes: each partition gets its own small btree
+create index if not exists idx_audit_created on audit_events(created_at, id);
+create index if not exists idx_audit_actor_created on audit_events(actor_email, created_at);
+
+-- audit_events_pYYYY_MM for the month starting at month_start; no-op if it exists
+create or replace function audit_events_ensure_partition(month_start date) returns text
+language plpgsql as $$
+declare
+  lo timestamptz := date_trunc('month', month_start::timestamp) at time zone 'UTC';
+  hi timestamptz := (date_trunc('month', month_start::timestamp) + interval '1 month') at time zone 'UTC';
+  name text := 'audit_events_p' || to_char(month_start, 'YYYY_MM');
+begin
+  execute format(
+    'create table if not exists %I partition of audit_events for values from (%L) to (%L)',
+    name, lo, hi
+  );
+  return name;
+end $$;
+
+-- every month that has legacy rows, through three months ahead
+do $$
+declare
+  m date;
+begin
+  m := date_trunc('month', coalesce((select min(created_at) from audit_events_legacy), now()) at time zone 'UTC')::date;
+  while m <= (date_trunc('month', now() at time zone 'UTC') + interval '3 months')::date loop
+    perform audit_events_ensure_partition(m);
+    m := (m + interval '1 month')::date;
+  end loop;
+end $$;
+
+insert into audit_events (id, workspace_id, actor_user_id, actor_email, action, entity_type, entity_id, metadata, created_at)
+select id, workspace_id, actor_user_id, actor_email, action, entity_type, entity_id, metadata, created_at
+from audit_events_legacy;
+
+drop table audit_events_legacy;
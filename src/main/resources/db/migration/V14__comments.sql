@@ -0,0 +1,46 @@
+-- Comments on projects and tasks. Like projects/tasks they are scoped by the author's email
+-- rather than a workspace, and project_id is stored for both entity types so a whole project's
+-- comments (cleanup, list ETags) are one index range.
+alter table comments alter column workspace_id drop not null;
+alter table comments alter column created_by_user_id drop not null;
+alter table comments add column if not exists project_id uuid;
+alter table comments add column if not exists author_email varchar(255);
+
+-- threads are read oldest-first with a (created_at, id) keyset; also serves the grouped counts
+create index if not exists idx_comments_entity_created
+  on comments(entity_type, entity_id, created_at, id);
+
+create index if not exists idx_comments_project_created
+  on comments(project_id, created_at);
+
+-- superseded by idx_comments_entity_created (same leading columns)
+drop index if exists idx_comments_entity;
+
+-- entity_id is polymorphic, so no FK can cascade; statement triggers clean up instead
+create or replace function comments_on_task_delete() returns trigger
+language plpgsql as $$
+begin
+  delete from comments c
+  using old_rows o
+  where c.entity_type = 'TASK' and c.entity_id = o.id;
+  return null;
+end $$;
+
+create or replace function comments_on_project_delete() returns trigger
+language plpgsql as $$
+begin
+  delete from comments c
+  using old_rows o
+  where c.project_id = o.id;
+  return null;
+end $$;
+
+create trigger tasks_comments_delete
+  after delete on tasks
+  referencing old table as old_rows
+  for each statement execute function comments_on_task_delete();
+
+create trigger projects_comments_delete
+  after delete on projects
+  referencing old table as old_rows
+  for each statement execute function comments_on_project_delete();
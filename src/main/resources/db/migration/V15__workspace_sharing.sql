@@ -0,0 +1,14 @@
+-- Sharing: a project can belong to one workspace, whose members then get access by role.
+-- Tasks keep the project owner's email in owner_email, so task queries and indexes are unchanged.
+alter table projects add column if not exists workspace_id uuid references workspaces(id) on delete set null;
+
+create index if not exists idx_projects_workspace_created
+  on projects(workspace_id, created_at desc, id desc)
+  where workspace_id is not null;
+
+-- the membership index loads all of a user's workspaces in one range scan
+create index if not exists idx_workspace_members_user
+  on workspace_members(user_id, workspace_id, role);
+
+alter table workspace_members
+  add constraint chk_workspace_members_role check (role in ('OWNER', 'EDITOR', 'VIEWER'));
@@ -0,0 +1,5 @@
+-- V1 indexed audit_events(workspace_id); V13 renamed that index onto audit_events_legacy and
+-- dropped it with the table without recreating it on the partitioned audit_events.
+-- Restored here with created_at second, like idx_audit_actor_created, so per-workspace reads of
+-- a time range stay on the index within each partition.
+create index if not exists idx_audit_workspace_created on audit_events(workspace_id, created_at);
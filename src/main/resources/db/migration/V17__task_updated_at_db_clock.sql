@@ -0,0 +1,15 @@
+-- One clock for the delta-sync keyset. tasks.updated_at used to come from whichever JVM wrote the
+-- row, task_tombstones.deleted_at from the database (V11) and the feed's upper bound from the
+-- reading JVM; skew between them could let a change fall behind a cursor that already passed it.
+-- Every insert/update is now stamped here with the same clock_timestamp() the tombstones use, and
+-- the app reads the value back instead of sending its own.
+create or replace function tasks_stamp_updated_at() returns trigger
+language plpgsql as $$
+begin
+  new.updated_at := clock_timestamp();
+  return new;
+end $$;
+
+create trigger tasks_stamp_updated_at
+  before insert or update on tasks
+  for each row execute function tasks_stamp_updated_at();
@@ -0,0 +1,12 @@
+-- Keyset pagination for task listing: equality on (owner, project), ordering on (created_at, id)
+create index if not exists idx_tasks_owner_project_created
+  on tasks(owner_email, project_id, created_at desc, id desc);
+
+create index if not exists idx_tasks_owner_project_status_created
+  on tasks(owner_email, project_id, status, created_at desc, id desc);
+
+create index if not exists idx_tasks_owner_project_due
+  on tasks(owner_email, project_id, due_at);
+
+-- superseded by idx_tasks_owner_project_created (same leading columns)
+drop index if exists idx_tasks_owner_project;
@@ -0,0 +1,6 @@
+-- Keyset pagination for project listing; id desc matches the (created_at desc, id desc) ordering
+create index if not exists idx_projects_owner_created
+  on projects(owner_email, created_at desc, id desc);
+
+-- superseded by idx_projects_owner_created (same leading column)
+drop index if exists idx_projects_owner_email;
@@ -0,0 +1,108 @@
+-- Per-project task counts by status, maintained by statement-level triggers so a bulk write
+-- of N tasks costs one upsert per touched project, not N.
+create table if not exists project_task_counters (
+  project_id uuid primary key references projects(id) on delete cascade,
+  todo_count bigint not null default 0,
+  in_progress_count bigint not null default 0,
+  done_count bigint not null default 0,
+  updated_at timestamptz not null default now()
+);
+
+create or replace function task_counters_on_insert() returns trigger
+language plpgsql as $$
+begin
+  insert into project_task_counters as c (project_id, todo_count, in_progress_count, done_count)
+  select d.project_id,
+         count(*) filter (where d.status = 'TODO'),
+         count(*) filter (where d.status = 'IN_PROGRESS'),
+         count(*) filter (where d.status = 'DONE')
+  from new_rows d
+  group by d.project_id
+  on conflict (project_id) do update set
+    todo_count = c.todo_count + excluded.todo_count,
+    in_progress_count = c.in_progress_count + excluded.in_progress_count,
+    done_count = c.done_count + excluded.done_count,
+    updated_at = now();
+  return null;
+end $$;
+
+create or replace function task_counters_on_update() returns trigger
+language plpgsql as $$
+begin
+  insert into project_task_counters as c (project_id, todo_count, in_progress_count, done_count)
+  select d.project_id, sum(d.todo), sum(d.in_progress), sum(d.done)
+  from (
+    select project_id,
+           (status = 'TODO')::int as todo,
+           (status = 'IN_PROGRESS')::int as in_progress,
+           (status = 'DONE')::int as done
+    from new_rows
+    union all
+    select project_id,
+           -(status = 'TODO')::int,
+           -(status = 'IN_PROGRESS')::int,
+           -(status = 'DONE')::int
+    from old_rows
+  ) d
+  group by d.project_id
+  -- title/due_at-only updates net out to zero, skip the write
+  having sum(d.todo) <> 0 or sum(d.in_progress) <> 0 or sum(d.done) <> 0
+  on conflict (project_id) do update set
+    todo_count = c.todo_count + excluded.todo_count,
+    in_progress_count = c.in_progress_count + excluded.in_progress_count,
+    done_count = c.done_count + excluded.done_count,
+    updated_at = now();
+  return null;
+end $$;
+
+create or replace function task_counters_on_delete() returns trigger
+language plpgsql as $$
+begin
+  update project_task_counters c set
+    todo_count = c.todo_count - d.todo,
+    in_progress_count = c.in_progress_count - d.in_progress,
+    done_count = c.done_count - d.done,
+    updated_at = now()
+  from (
+    select project_id,
+           count(*) filter (where status = 'TODO') as todo,
+           count(*) filter (where status = 'IN_PROGRESS') as in_progress,
+           count(*) filter (where status = 'DONE') as done
+    from old_rows
+    group by project_id
+  ) d
+  -- when the project itself is being deleted its counter row is already gone (cascade)
+  where c.project_id = d.project_id;
+  return null;
+end $$;
+
+create trigger tasks_counters_insert
+  after insert on tasks
+  referencing new table as new_rows
+  for each statement execute function task_counters_on_insert();
+
+create trigger tasks_counters_update
+  after update on tasks
+  referencing old table as old_rows new table as new_rows
+  for each statement execute function task_counters_on_update();
+
+create trigger tasks_counters_delete
+  after delete on tasks
+  referencing old table as old_rows
+  for each statement execute function task_counters_on_delete();
+
+-- backfill
+insert into project_task_counters (project_id, todo_count, in_progress_count, done_count)
+select p.id,
+       count(t.id) filter (where t.status = 'TODO'),
+       count(t.id) filter (where t.status = 'IN_PROGRESS'),
+       count(t.id) filter (where t.status = 'DONE')
+from projects p
+left join tasks t on t.project_id = p.id
+group by p.id
+on conflict (project_id) do nothing;
+
+-- overdue depends on the clock, so it is counted at read time; this keeps it to open, dated tasks
+create index if not exists idx_tasks_owner_open_due
+  on tasks(owner_email, due_at, project_id)
+  where status <> 'DONE' and due_at is not null;
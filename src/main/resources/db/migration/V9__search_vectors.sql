@@ -0,0 +1,18 @@
+-- Full-text search. 'simple' config (no stemming, no stop words): titles are short, mixed-language,
+-- and prefix typeahead needs lexemes to look like what the user typed.
+create extension if not exists btree_gin;
+
+alter table projects
+  add column if not exists search_vector tsvector
+  generated always as (
+    setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+  ) stored;
+
+alter table tasks
+  add column if not exists search_vector tsvector
+  generated always as (to_tsvector('simple', coalesce(title, ''))) stored;
+
+-- owner_email inside the GIN index (btree_gin) so the owner filter and the text match are one index scan
+create index if not exists idx_projects_owner_search on projects using gin (owner_email, search_vector);
+create index if not exists idx_tasks_owner_search on tasks using gin (owner_email, search_vector);
@@ -0,0 +1,84 @@
+package com.teamops.api.audit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class AuditLogTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  @Test
+  void writesEverythingInBoundedBatchesAndDrainsOnStop() {
+    AuditRepository repo = mock(AuditRepository.class);
+    List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    doAnswer(inv -> batchSizes.add(((List<?>) inv.getArgument(0)).size())).when(repo).insertAll(anyList());
+
+    AuditLog audit = new AuditLog(repo, props(1_000, 7), registry);
+    audit.start();
+    for (int i = 0; i < 100; i++) audit.record(event());
+    audit.stop();
+
+    assertEquals(100, batchSizes.stream().mapToInt(Integer::intValue).sum());
+    assertTrue(batchSizes.stream().allMatch(n -> n <= 7));
+    assertEquals(100.0, registry.get("audit.written").counter().count());
+  }
+
+  @Test
+  void dropsAndCountsWhenQueueIsFull() throws Exception {
+    AuditRepository repo = mock(AuditRepository.class);
+    CountDownLatch writing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    doAnswer(inv -> {
+      writing.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return null;
+    }).when(repo).insertAll(anyList());
+
+    AuditLog audit = new AuditLog(repo, props(2, 1), registry);
+    audit.start();
+
+    // the writer takes this one and stalls on the database
+    audit.record(event());
+    assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+    for (int i = 0; i < 5; i++) audit.record(event());
+    assertEquals(3.0, registry.get("audit.dropped").tag("reason", "queue_full").counter().count());
+
+    release.countDown();
+    audit.stop();
+    verify(repo, times(3)).insertAll(anyList());
+  }
+
+  @Test
+  void eventsBeforeStartAreCountedNotQueued() {
+    AuditLog audit = new AuditLog(mock(AuditRepository.class), props(10, 10), registry);
+
+    audit.record(event());
+
+    assertEquals(1.0, registry.get("audit.dropped").tag("reason", "stopped").counter().count());
+    assertEquals(0.0, registry.get("audit.queue").gauge().value());
+  }
+
+  private static AuditProperties props(int capacity, int batchSize) {
+    AuditProperties p = new AuditProperties();
+    p.setQueueCapacity(capacity);
+    p.setBatchSize(batchSize);
+    p.setOfferTimeout(Duration.ZERO);
+    p.setFlushInterval(Duration.ofMillis(20));
+    return p;
+  }
+
+  private static AuditEvent event() {
+    return AuditEvent.of("task.created", "task", null, "owner@example.com", null);
+  }
+}
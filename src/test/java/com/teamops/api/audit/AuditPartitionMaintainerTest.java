@@ -0,0 +1,59 @@
+package com.teamops.api.audit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AuditPartitionMaintainerTest {
+
+  @Test
+  void eachOperationRunsInItsOwnTransactionAndAFailureDoesNotStopTheRest() {
+    AuditRepository repo = mock(AuditRepository.class);
+    PlatformTransactionManager txm = mock(PlatformTransactionManager.class);
+    when(txm.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    when(repo.tryMaintenanceLock()).thenReturn(true);
+
+    LocalDate thisMonth = LocalDate.now(ZoneOffset.UTC).withDayOfMonth(1);
+    AuditRepository.Partition oldest = partition(thisMonth.minusMonths(20));
+    AuditRepository.Partition older = partition(thisMonth.minusMonths(19));
+    when(repo.findPartitions()).thenReturn(List.of(oldest, older));
+    when(repo.isPartition(any())).thenReturn(true);
+    doThrow(new IllegalStateException("lock timeout")).when(repo).dropPartition(oldest.name());
+
+    AuditProperties props = new AuditProperties();
+    new AuditPartitionMaintainer(repo, props, new TransactionTemplate(txm)).maintain();
+
+    // partitions-ahead + 1 creates, two drops: one transaction and one lock each
+    int ops = props.getPartitionsAhead() + 1 + 2;
+    verify(repo, times(ops)).tryMaintenanceLock();
+    verify(txm, times(ops)).getTransaction(any());
+    verify(txm).rollback(any());
+    verify(repo).dropPartition(older.name());
+  }
+
+  @Test
+  void stopsWhenAnotherNodeHoldsTheLock() {
+    AuditRepository repo = mock(AuditRepository.class);
+    PlatformTransactionManager txm = mock(PlatformTransactionManager.class);
+    when(txm.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    when(repo.tryMaintenanceLock()).thenReturn(false);
+
+    new AuditPartitionMaintainer(repo, new AuditProperties(), new TransactionTemplate(txm)).maintain();
+
+    verify(repo, times(1)).tryMaintenanceLock();
+    verify(repo, never()).ensurePartition(any());
+    verify(repo, never()).findPartitions();
+  }
+
+  private static AuditRepository.Partition partition(LocalDate month) {
+    return new AuditRepository.Partition(String.format("audit_events_p%d_%02d", month.getYear(), month.getMonthValue()), month);
+  }
+}
@@ -0,0 +1,93 @@
+package com.teamops.api.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TieredKeyValueCacheTest {
+
+  private static final Duration TTL = Duration.ofMinutes(5);
+
+  // two "replicas" sharing one L2 and one bus
+  private KeyValueCache l2;
+  private TieredKeyValueCache nodeA;
+  private TieredKeyValueCache nodeB;
+
+  @BeforeEach
+  void setUp() {
+    l2 = new InMemoryKeyValueCache(100);
+    InvalidationBus bus = new InMemoryInvalidationBus();
+    nodeA = new TieredKeyValueCache(new InMemoryKeyValueCache(100), l2, bus, Duration.ofSeconds(30));
+    nodeB = new TieredKeyValueCache(new InMemoryKeyValueCache(100), l2, bus, Duration.ofSeconds(30));
+  }
+
+  @Test
+  void readsFallBackToL2AndThenServeFromL1() {
+    nodeB.put("k", bytes("v1"), TTL);
+
+    assertEquals("v1", read(nodeA.get("k")));
+
+    // L1 on A now holds it even if L2 loses it
+    l2.evict(List.of("k"));
+    assertEquals("v1", read(nodeA.get("k")));
+  }
+
+  @Test
+  void writeOnOneNodeEvictsOtherNodesL1() {
+    nodeA.put("k", bytes("v1"), TTL);
+    assertEquals("v1", read(nodeB.get("k")));
+
+    nodeA.put("k", bytes("v2"), TTL);
+
+    assertEquals("v2", read(nodeB.get("k")));
+  }
+
+  @Test
+  void evictOnOneNodeReachesAllNodes() {
+    nodeA.put("k", bytes("v1"), TTL);
+    assertEquals("v1", read(nodeB.get("k")));
+
+    nodeB.evict(List.of("k"));
+
+    assertTrue(nodeA.get("k").isEmpty());
+    assertTrue(nodeB.get("k").isEmpty());
+  }
+
+  @Test
+  void ownBroadcastDoesNotDropFreshL1Copy() {
+    nodeA.put("k", bytes("v1"), TTL);
+    l2.evict(List.of("k"));
+
+    assertEquals("v1", read(nodeA.get("k")));
+  }
+
+  @Test
+  void stalePutAfterAnotherNodesInvalidateIsRefusedEverywhere() {
+    nodeA.putIfNewer("k", bytes("v1"), 1, TTL);
+    assertEquals("v1", read(nodeB.get("k")));
+
+    nodeB.invalidate(Map.of("k", 2L), TTL);
+
+    assertFalse(nodeA.putIfNewer("k", bytes("v1"), 1, TTL));
+    assertTrue(nodeA.get("k").isEmpty());
+    assertTrue(nodeB.get("k").isEmpty());
+
+    assertTrue(nodeA.putIfNewer("k", bytes("v2"), 2, TTL));
+    assertEquals("v2", read(nodeB.get("k")));
+  }
+
+  private static byte[] bytes(String s) {
+    return s.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static String read(Optional<byte[]> v) {
+    return new String(v.orElseThrow(), StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,43 @@
+package com.teamops.api.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ETagsTest {
+
+  @Test
+  void strongTagRoundTripsThroughIfMatch() {
+    OffsetDateTime updatedAt = OffsetDateTime.parse("2026-03-01T10:15:30.123456+02:00");
+
+    List<OffsetDateTime> expected = ETags.expectedVersions("W/\"abc\", " + ETags.strong(updatedAt));
+
+    assertEquals(1, expected.size());
+    assertTrue(ETags.matches(expected, updatedAt));
+    assertFalse(ETags.matches(expected, updatedAt.plusNanos(1_000)));
+  }
+
+  @Test
+  void wildcardOrMissingIfMatchIsNoPrecondition() {
+    assertNull(ETags.expectedVersions(null));
+    assertNull(ETags.expectedVersions("*"));
+    // foreign or weak tags can never match
+    assertTrue(ETags.expectedVersions("\"not-ours!\", W/\"1\"").isEmpty());
+  }
+
+  @Test
+  void listTagChangesWithVersionAndParams() {
+    OffsetDateTime t = OffsetDateTime.parse("2026-03-01T10:15:30Z");
+    String base = ETags.weak(new ListVersion(3L, t), null, 50);
+
+    assertTrue(base.startsWith("W/\""));
+    assertEquals(base, ETags.weak(new ListVersion(3L, t), null, 50));
+    assertNotEquals(base, ETags.weak(new ListVersion(2L, t), null, 50));
+    assertNotEquals(base, ETags.weak(new ListVersion(3L, t.plusNanos(1_000)), null, 50));
+    assertNotEquals(base, ETags.weak(new ListVersion(3L, t), null, 20));
+    assertEquals(ETags.weak(new ListVersion(0L, null)), ETags.weak(new ListVersion(null, null)));
+  }
+}
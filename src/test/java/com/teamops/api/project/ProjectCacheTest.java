@@ -0,0 +1,120 @@
+package com.teamops.api.project;
+
+import com.teamops.api.cache.CacheProperties;
+import com.teamops.api.cache.InMemoryKeyValueCache;
+import com.teamops.api.common.CursorPage;
+import com.teamops.api.common.ListVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProjectCacheTest {
+
+  private static final String OWNER = "owner@example.com";
+
+  private ProjectRepository repo;
+  private ProjectCache cache;
+
+  @BeforeEach
+  void setUp() {
+    repo = mock(ProjectRepository.class);
+    cache = new ProjectCache(repo, new InMemoryKeyValueCache(100), new CacheProperties());
+  }
+
+  @Test
+  void secondReadIsServedFromCache() {
+    ProjectResponse p = project("Roadmap");
+    when(repo.findResponse(p.id(), OWNER)).thenReturn(Optional.of(p));
+
+    assertEquals(Optional.of(p), cache.getOne(OWNER, p.id()));
+    assertEquals(Optional.of(p), cache.getOne(OWNER, p.id()));
+
+    verify(repo, times(1)).findResponse(p.id(), OWNER);
+  }
+
+  @Test
+  void entriesAreNamespacedByOwner() {
+    ProjectResponse p = project("Roadmap");
+    when(repo.findResponse(p.id(), OWNER)).thenReturn(Optional.of(p));
+    when(repo.findResponse(p.id(), "other@example.com")).thenReturn(Optional.empty());
+
+    cache.getOne(OWNER, p.id());
+
+    assertTrue(cache.getOne("other@example.com", p.id()).isEmpty());
+  }
+
+  @Test
+  void writesAndDeletesEvict() {
+    ProjectResponse p = project("Roadmap");
+    when(repo.findResponse(p.id(), OWNER)).thenReturn(Optional.of(p));
+    cache.getOne(OWNER, p.id());
+
+    // the next read reloads the committed row instead of trusting the writer's copy
+    ProjectResponse renamed = new ProjectResponse(p.id(), "Renamed", p.description(), p.createdAt(), p.updatedAt().plusSeconds(1));
+    when(repo.findResponse(p.id(), OWNER)).thenReturn(Optional.of(renamed));
+    cache.written(OWNER, renamed);
+    assertEquals("Renamed", cache.getOne(OWNER, p.id()).orElseThrow().name());
+    verify(repo, times(2)).findResponse(p.id(), OWNER);
+
+    cache.deleted(OWNER, p.id());
+    when(repo.findResponse(p.id(), OWNER)).thenReturn(Optional.empty());
+    assertTrue(cache.getOne(OWNER, p.id()).isEmpty());
+  }
+
+  @Test
+  void loadThatSawThePreWriteRowCannotRepopulate() {
+    ProjectResponse p = project("Roadmap");
+    ProjectResponse renamed = new ProjectResponse(p.id(), "Renamed", p.description(), p.createdAt(), p.updatedAt().plusSeconds(1));
+
+    // the read loads the old row, then the write commits and invalidates before the read's put lands
+    when(repo.findResponse(p.id(), OWNER)).thenAnswer(inv -> {
+      cache.written(OWNER, renamed);
+      return Optional.of(p);
+    });
+    assertEquals("Roadmap", cache.getOne(OWNER, p.id()).orElseThrow().name());
+
+    when(repo.findResponse(p.id(), OWNER)).thenReturn(Optional.of(renamed));
+    assertEquals("Renamed", cache.getOne(OWNER, p.id()).orElseThrow().name());
+  }
+
+  @Test
+  void loadRacingADeleteCannotRepopulate() {
+    ProjectResponse p = project("Roadmap");
+    when(repo.findResponse(p.id(), OWNER)).thenAnswer(inv -> {
+      cache.deleted(OWNER, p.id());
+      return Optional.of(p);
+    });
+    cache.getOne(OWNER, p.id());
+
+    when(repo.findResponse(p.id(), OWNER)).thenReturn(Optional.empty());
+    assertTrue(cache.getOne(OWNER, p.id()).isEmpty());
+  }
+
+  @Test
+  void firstPageCachedUnderAnotherVersionIsReloaded() {
+    ProjectResponse p = project("Roadmap");
+    ListVersion v1 = new ListVersion(1L, p.updatedAt());
+    cache.firstPage(OWNER, v1, () -> new CursorPage<>(List.of(p), null));
+
+    // same version: served from the cache
+    assertEquals("Roadmap", cache.firstPage(OWNER, v1, () -> fail("reloaded")).items().get(0).name());
+
+    // another node wrote and its eviction hasn't landed here: the ETag moved, so must the body
+    ProjectResponse renamed = new ProjectResponse(p.id(), "Renamed", p.description(), p.createdAt(), p.updatedAt().plusSeconds(1));
+    ListVersion v2 = new ListVersion(1L, renamed.updatedAt());
+    assertEquals("Renamed", cache.firstPage(OWNER, v2, () -> new CursorPage<>(List.of(renamed), null)).items().get(0).name());
+  }
+
+  private static ProjectResponse project(String name) {
+    OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+    return new ProjectResponse(UUID.randomUUID(), name, "description", now, now);
+  }
+}
@@ -0,0 +1,33 @@
+package com.teamops.api.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalRateLimiterTest {
+
+  private final LocalRateLimiter limiter = new LocalRateLimiter();
+
+  @Test
+  void allowsBurstThenLimitsWithRetryHint() {
+    RateLimitProperties.Limit limit = new RateLimitProperties.Limit(3, 0.5);
+
+    for (int i = 0; i < 3; i++) {
+      assertTrue(limiter.tryAcquire("k", limit).allowed());
+    }
+
+    RateLimiter.Decision denied = limiter.tryAcquire("k", limit);
+    assertFalse(denied.allowed());
+    // one token every 2s
+    assertTrue(denied.retryAfter().toMillis() > 1_000 && denied.retryAfter().toMillis() <= 2_000);
+  }
+
+  @Test
+  void bucketsAreIndependentPerKey() {
+    RateLimitProperties.Limit limit = new RateLimitProperties.Limit(1, 0.01);
+
+    assertTrue(limiter.tryAcquire("user:a", limit).allowed());
+    assertFalse(limiter.tryAcquire("user:a", limit).allowed());
+    assertTrue(limiter.tryAcquire("user:b", limit).allowed());
+  }
+}
@@ -0,0 +1,58 @@
+package com.teamops.api.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+  private final RateLimitProperties props = new RateLimitProperties();
+  private final RateLimitFilter filter =
+      new RateLimitFilter(new LocalRateLimiter(), props, new ObjectMapper(), new SimpleMeterRegistry());
+
+  @Test
+  void loginAttemptsFromManyIpsShareTheTargetEmailsBucket() throws Exception {
+    props.setAuthEmail(new RateLimitProperties.Limit(2, 0.01));
+
+    assertEquals(200, login("10.0.0.1", "Ana@teamops.dev").getStatus());
+    assertEquals(200, login("10.0.0.2", " ana@teamops.dev").getStatus());
+    MockHttpServletResponse third = login("10.0.0.3", "ana@TEAMOPS.dev");
+
+    assertEquals(429, third.getStatus());
+    assertNotNull(third.getHeader("Retry-After"));
+    assertEquals(200, login("10.0.0.4", "bo@teamops.dev").getStatus());
+  }
+
+  @Test
+  void loginBodyIsStillReadableDownstream() throws Exception {
+    MockHttpServletRequest req = loginRequest("10.0.0.1", "ana@teamops.dev");
+    MockFilterChain chain = new MockFilterChain();
+
+    filter.doFilter(req, new MockHttpServletResponse(), chain);
+
+    String body = new String(chain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+    assertTrue(body.contains("ana@teamops.dev"));
+  }
+
+  private MockHttpServletResponse login(String ip, String email) throws Exception {
+    MockHttpServletResponse res = new MockHttpServletResponse();
+    filter.doFilter(loginRequest(ip, email), res, new MockFilterChain());
+    return res;
+  }
+
+  private static MockHttpServletRequest loginRequest(String ip, String email) {
+    MockHttpServletRequest req = new MockHttpServletRequest("POST", "/auth/login");
+    req.setServletPath("/auth/login");
+    req.setRemoteAddr(ip);
+    req.setContentType("application/json");
+    req.setContent(("{\"email\":\"" + email + "\",\"password\":\"guess\"}").getBytes(StandardCharsets.UTF_8));
+    return req;
+  }
+}
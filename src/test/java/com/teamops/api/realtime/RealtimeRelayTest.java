@@ -0,0 +1,54 @@
+package com.teamops.api.realtime;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.teamops.api.task.TaskEvent;
+import com.teamops.api.task.TaskResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RealtimeRelayTest {
+
+  private static final UUID PROJECT = UUID.randomUUID();
+
+  @Test
+  void taskEventsReachStompClientsOnEveryNode() {
+    // two "replicas" sharing one relay
+    RealtimeRelay relay = new InMemoryRealtimeRelay();
+    SimpMessageSendingOperations brokerA = mock(SimpMessageSendingOperations.class);
+    SimpMessageSendingOperations brokerB = mock(SimpMessageSendingOperations.class);
+    new TaskEventBroadcaster(brokerA, relay);
+    new TaskEventBroadcaster(brokerB, relay);
+
+    TaskEvent e = TaskEvent.updated("ana@teamops.dev", task());
+    new RealtimeEventPublisher(relay).on(e);
+
+    String topic = "/topic/projects/" + PROJECT + "/tasks";
+    verify(brokerA).convertAndSend(topic, TaskEventMessage.from(e));
+    verify(brokerB).convertAndSend(topic, TaskEventMessage.from(e));
+  }
+
+  @Test
+  void eventsSurviveTheRedisPayload() throws Exception {
+    ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    RealtimeEvent e = RealtimeEvent.of(TaskEvent.created("ana@teamops.dev", task()));
+
+    RealtimeEvent back = mapper.readValue(mapper.writeValueAsString(e), RealtimeEvent.class);
+
+    assertEquals(e.name(), back.name());
+    assertEquals(e.task().task().id(), back.task().task().id());
+    assertTrue(e.task().at().isEqual(back.task().at()));
+  }
+
+  private static TaskResponse task() {
+    OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+    return new TaskResponse(UUID.randomUUID(), PROJECT, "Write docs", "TODO", null, now, now);
+  }
+}
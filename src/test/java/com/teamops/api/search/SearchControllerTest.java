@@ -0,0 +1,26 @@
+package com.teamops.api.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchControllerTest {
+
+  @Test
+  void lastWordBecomesAPrefix() {
+    assertEquals("'quarterly' & 'rep':*", SearchController.toPrefixQuery("Quarterly  REP"));
+    assertEquals("'wri':*", SearchController.toPrefixQuery("wri"));
+  }
+
+  @Test
+  void tsqueryOperatorsAreStripped() {
+    assertEquals("'a' & 'b' & 'cd':*", SearchController.toPrefixQuery("a' | !b & (cd:*"));
+    assertEquals("'ünïcode' & 'v2':*", SearchController.toPrefixQuery("ünïcode v2"));
+  }
+
+  @Test
+  void tooShortOrEmptyLastWordIsNotLookedUp() {
+    assertNull(SearchController.toPrefixQuery("report w"));
+    assertNull(SearchController.toPrefixQuery("&|!()"));
+  }
+}
@@ -0,0 +1,36 @@
+package com.teamops.api.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchCursorTest {
+
+  @Test
+  void roundTripsTheExactRank() {
+    // not representable in a short decimal; must come back bit-for-bit
+    SearchCursor c = new SearchCursor(0.1f / 3, "task", UUID.randomUUID());
+
+    SearchCursor back = SearchCursor.decodeOrNull(c.encode());
+
+    assertEquals(c, back);
+    assertEquals(Float.floatToIntBits(c.rank()), Float.floatToIntBits(back.rank()));
+  }
+
+  @Test
+  void blankMeansFirstPage() {
+    assertNull(SearchCursor.decodeOrNull(null));
+    assertNull(SearchCursor.decodeOrNull(" "));
+  }
+
+  @Test
+  void garbageIsRejected() {
+    String notACursor = Base64.getUrlEncoder().encodeToString("1|task".getBytes());
+
+    assertThrows(IllegalArgumentException.class, () -> SearchCursor.decodeOrNull("%%%"));
+    assertThrows(IllegalArgumentException.class, () -> SearchCursor.decodeOrNull(notACursor));
+  }
+}
@@ -0,0 +1,18 @@
+package com.teamops.api.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveBCryptPasswordEncoderTest {
+
+  @Test
+  void flagsAnyCostMismatch() {
+    AdaptiveBCryptPasswordEncoder cost10 = new AdaptiveBCryptPasswordEncoder(10);
+    String hash12 = new AdaptiveBCryptPasswordEncoder(12).encode("password-123");
+
+    assertTrue(cost10.matches("password-123", hash12));
+    assertTrue(cost10.upgradeEncoding(hash12));
+    assertFalse(cost10.upgradeEncoding(cost10.encode("password-123")));
+  }
+}
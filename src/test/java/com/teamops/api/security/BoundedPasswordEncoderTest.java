@@ -0,0 +1,120 @@
+package com.teamops.api.security;
+
+import com.teamops.api.common.RetryableStatusException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+  private final CountDownLatch release = new CountDownLatch(1);
+  private final ExecutorService callers = Executors.newCachedThreadPool();
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private BoundedPasswordEncoder encoder;
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    callers.shutdownNow();
+    if (encoder != null) encoder.close();
+  }
+
+  @Test
+  void rejectsWith503WhenPoolAndQueueAreFull() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    encoder = new BoundedPasswordEncoder(blocking(started), props(1, 1, Duration.ofSeconds(30)), registry);
+
+    callers.submit(() -> encoder.encode("running"));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    callers.submit(() -> encoder.encode("queued"));
+    waitForQueued(1);
+
+    RetryableStatusException ex = assertThrows(RetryableStatusException.class, () -> encoder.encode("rejected"));
+    assertEquals(HttpStatus.SERVICE_UNAVAILABLE, ex.getStatusCode());
+    assertEquals("1", ex.getHeaders().getFirst("Retry-After"));
+  }
+
+  @Test
+  void givesUpOnJobsQueuedLongerThanMaxWait() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    encoder = new BoundedPasswordEncoder(blocking(started), props(1, 4, Duration.ofMillis(50)), registry);
+
+    callers.submit(() -> encoder.encode("running"));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    assertThrows(RetryableStatusException.class, () -> encoder.matches("pw", "hash"));
+    // the abandoned job doesn't keep its queue slot
+    assertEquals(0, queued());
+  }
+
+  @Test
+  void startedJobsRunPastMaxWait() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    encoder = new BoundedPasswordEncoder(blocking(started), props(1, 4, Duration.ofMillis(50)), registry);
+
+    Future<String> running = callers.submit(() -> encoder.encode("slow"));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    Thread.sleep(100);
+    release.countDown();
+
+    assertEquals("hash", running.get(5, TimeUnit.SECONDS));
+  }
+
+  private void waitForQueued(int n) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (System.nanoTime() < deadline) {
+      if (queued() >= n) return;
+      Thread.sleep(5);
+    }
+    fail("job was never queued");
+  }
+
+  private double queued() {
+    return registry.get("auth.password.queue").gauge().value();
+  }
+
+  private PasswordEncoder blocking(CountDownLatch started) {
+    return new PasswordEncoder() {
+      @Override
+      public String encode(CharSequence raw) {
+        started.countDown();
+        await();
+        return "hash";
+      }
+
+      @Override
+      public boolean matches(CharSequence raw, String encoded) {
+        started.countDown();
+        await();
+        return true;
+      }
+
+      private void await() {
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    };
+  }
+
+  private static PasswordHashingProperties props(int threads, int queue, Duration maxWait) {
+    PasswordHashingProperties p = new PasswordHashingProperties();
+    p.setThreads(threads);
+    p.setQueueCapacity(queue);
+    p.setMaxWait(maxWait);
+    return p;
+  }
+}
@@ -0,0 +1,88 @@
+package com.teamops.api.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class JwtAuthFilterTest {
+
+  private static final String EMAIL = "ana@teamops.dev";
+  private static final UUID PROJECT = UUID.randomUUID();
+
+  private JwtService jwt;
+  private JwtAuthFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    JwtProperties props = new JwtProperties();
+    props.setSecret("test-secret-that-is-long-enough-for-hs256");
+    props.setExpiresMin(60);
+    jwt = new JwtService(props, new SimpleMeterRegistry());
+
+    PrincipalCache principals = mock(PrincipalCache.class);
+    when(principals.resolve(any())).thenReturn(new User(EMAIL, "", List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    filter = new JwtAuthFilter(jwt, principals, new SimpleMeterRegistry());
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void ticketOpensTheStreamItWasIssuedFor() throws Exception {
+    run(events(PROJECT, jwt.issueStreamTicket(EMAIL, PROJECT)));
+
+    assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+  }
+
+  @Test
+  void ticketDoesNotOpenAnotherProjectsStream() throws Exception {
+    run(events(UUID.randomUUID(), jwt.issueStreamTicket(EMAIL, PROJECT)));
+
+    assertNull(SecurityContextHolder.getContext().getAuthentication());
+  }
+
+  @Test
+  void ticketIsNotABearerToken() throws Exception {
+    MockHttpServletRequest req = new MockHttpServletRequest("GET", "/api/projects");
+    req.setServletPath("/api/projects");
+    req.addHeader("Authorization", "Bearer " + jwt.issueStreamTicket(EMAIL, PROJECT));
+    run(req);
+
+    assertNull(SecurityContextHolder.getContext().getAuthentication());
+  }
+
+  @Test
+  void accessTokenIsNotATicket() throws Exception {
+    run(events(PROJECT, jwt.issueToken(EMAIL, "USER")));
+
+    assertNull(SecurityContextHolder.getContext().getAuthentication());
+  }
+
+  private static MockHttpServletRequest events(UUID projectId, String ticket) {
+    String path = "/api/projects/" + projectId + "/events";
+    MockHttpServletRequest req = new MockHttpServletRequest("GET", path);
+    req.setServletPath(path);
+    req.setParameter("ticket", ticket);
+    return req;
+  }
+
+  private void run(MockHttpServletRequest req) throws Exception {
+    filter.doFilter(req, new MockHttpServletResponse(), new MockFilterChain());
+  }
+}
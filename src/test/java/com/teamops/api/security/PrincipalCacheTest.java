@@ -0,0 +1,72 @@
+package com.teamops.api.security;
+
+import com.teamops.api.cache.InMemoryInvalidationBus;
+import com.teamops.api.cache.InvalidationBus;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PrincipalCacheTest {
+
+  private static final String EMAIL = "ana@teamops.dev";
+
+  private UserDetailsService users;
+  // two "replicas" sharing one bus
+  private PrincipalCache nodeA;
+  private PrincipalCache nodeB;
+
+  @BeforeEach
+  void setUp() {
+    users = mock(UserDetailsService.class);
+    withRole("ADMIN");
+
+    InvalidationBus bus = new InMemoryInvalidationBus();
+    nodeA = new PrincipalCache(users, new PrincipalCacheProperties(), bus, new SimpleMeterRegistry());
+    nodeB = new PrincipalCache(users, new PrincipalCacheProperties(), bus, new SimpleMeterRegistry());
+  }
+
+  @Test
+  void refusesTokensWithAnOutdatedRoleWithoutReloading() {
+    nodeA.resolve(claims("ADMIN"));
+
+    assertThrows(JwtException.class, () -> nodeA.resolve(claims("USER")));
+    assertThrows(JwtException.class, () -> nodeA.resolve(claims("USER")));
+
+    verify(users, times(1)).loadUserByUsername(EMAIL);
+  }
+
+  @Test
+  void evictReachesOtherNodes() {
+    nodeA.resolve(claims("ADMIN"));
+    nodeB.resolve(claims("ADMIN"));
+
+    // demoted: the old ADMIN token is refused everywhere, a fresh USER token works
+    withRole("USER");
+    nodeA.evict(EMAIL);
+
+    assertThrows(JwtException.class, () -> nodeB.resolve(claims("ADMIN")));
+    assertNotNull(nodeB.resolve(claims("USER")));
+  }
+
+  private void withRole(String role) {
+    when(users.loadUserByUsername(EMAIL))
+        .thenReturn(new User(EMAIL, "hash", List.of(new SimpleGrantedAuthority("ROLE_" + role))));
+  }
+
+  private static Claims claims(String role) {
+    Claims c = Jwts.claims().setSubject(EMAIL);
+    c.put("role", role);
+    return c;
+  }
+}
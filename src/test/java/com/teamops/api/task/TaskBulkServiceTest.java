@@ -0,0 +1,41 @@
+package com.teamops.api.task;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TaskBulkServiceTest {
+
+  private static final String OWNER = "owner@example.com";
+  private static final UUID PROJECT = UUID.randomUUID();
+
+  @Test
+  void rejectsRepeatedIdsBeforeWritingAnything() {
+    TaskRepository tasks = mock(TaskRepository.class);
+    ApplicationEventPublisher events = mock(ApplicationEventPublisher.class);
+    TaskBulkService bulk = new TaskBulkService(tasks, events);
+
+    UUID id = UUID.randomUUID();
+    List<TaskBulkDtos.Operation> ops = List.of(op("UPDATE", id), op("DELETE", id));
+
+    ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> bulk.apply(OWNER, OWNER, PROJECT, ops));
+
+    assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+    verifyNoInteractions(tasks, events);
+  }
+
+  private static TaskBulkDtos.Operation op(String kind, UUID id) {
+    TaskBulkDtos.Operation op = new TaskBulkDtos.Operation();
+    op.setOp(kind);
+    op.setId(id);
+    op.setStatus("DONE");
+    return op;
+  }
+}
@@ -0,0 +1,120 @@
+package com.teamops.api.task;
+
+import com.teamops.api.common.KeysetCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TaskSyncServiceTest {
+
+  private static final String OWNER = "owner@example.com";
+  private static final UUID PROJECT = UUID.randomUUID();
+
+  private TaskChangeRepository repo;
+  private TaskSyncService sync;
+
+  @BeforeEach
+  void setUp() {
+    repo = mock(TaskChangeRepository.class);
+    when(repo.now()).thenReturn(OffsetDateTime.now(ZoneOffset.UTC));
+    sync = new TaskSyncService(repo, Duration.ofSeconds(5), Duration.ofDays(30));
+  }
+
+  @Test
+  void splitsUpsertsAndTombstonesAndResumesAfterLastChange() {
+    OffsetDateTime t = OffsetDateTime.now(ZoneOffset.UTC).minusMinutes(1);
+    TaskResponse live = task(t);
+    UUID gone = UUID.randomUUID();
+    UUID extra = UUID.randomUUID();
+
+    SyncCursor since = new SyncCursor(t.minusMinutes(1), UUID.randomUUID(), t.minusMinutes(1));
+    when(repo.findAfter(eq(OWNER), eq(PROJECT), eq(since.position()), any(), eq(true), eq(3))).thenReturn(List.of(
+        new TaskChangeRepository.Change(live.id(), t, live),
+        new TaskChangeRepository.Change(gone, t.plusSeconds(1), null),
+        new TaskChangeRepository.Change(extra, t.plusSeconds(2), null)
+    ));
+
+    TaskChanges page = sync.changesSince(OWNER, PROJECT, since, 2);
+
+    assertEquals(List.of(live), page.updated());
+    assertEquals(List.of(gone), page.deleted());
+    assertTrue(page.hasMore());
+    assertEquals(new SyncCursor(t.plusSeconds(1), gone, since.syncedTo()), SyncCursor.decodeOrNull(page.nextCursor()));
+  }
+
+  @Test
+  void initialSyncSkipsTombstones() {
+    when(repo.findAfter(any(), any(), any(), any(), anyBoolean(), anyInt())).thenReturn(List.of());
+
+    TaskChanges page = sync.changesSince(OWNER, PROJECT, null, 50);
+
+    verify(repo).findAfter(eq(OWNER), eq(PROJECT), any(), any(), eq(false), eq(51));
+    assertFalse(page.hasMore());
+    assertNotNull(page.nextCursor());
+  }
+
+  @Test
+  void quietProjectKeepsSyncingPastTheTtl() {
+    // last change long ago, but the client caught up a minute ago
+    OffsetDateTime lastChange = OffsetDateTime.now(ZoneOffset.UTC).minusDays(90);
+    SyncCursor since = new SyncCursor(lastChange, UUID.randomUUID(), OffsetDateTime.now(ZoneOffset.UTC).minusMinutes(1));
+    when(repo.findAfter(any(), any(), any(), any(), anyBoolean(), anyInt())).thenReturn(List.of());
+
+    TaskChanges page = sync.changesSince(OWNER, PROJECT, since, 50);
+
+    assertFalse(page.resetRequired());
+    SyncCursor next = SyncCursor.decodeOrNull(page.nextCursor());
+    assertTrue(next.changedAt().isAfter(lastChange));
+    assertEquals(next.changedAt(), next.syncedTo());
+  }
+
+  @Test
+  void initialSyncOfOldTasksSpansSeveralPages() {
+    OffsetDateTime old = OffsetDateTime.now(ZoneOffset.UTC).minusDays(60);
+    TaskResponse a = task(old);
+    TaskResponse b = task(old.plusDays(1));
+    TaskResponse c = task(old.plusDays(2));
+    when(repo.findAfter(any(), any(), any(), any(), anyBoolean(), anyInt())).thenReturn(List.of(
+        new TaskChangeRepository.Change(a.id(), a.updatedAt(), a),
+        new TaskChangeRepository.Change(b.id(), b.updatedAt(), b)
+    ));
+
+    TaskChanges first = sync.changesSince(OWNER, PROJECT, null, 1);
+    assertTrue(first.hasMore());
+
+    // the position is 60 days old; the walk itself started just now
+    when(repo.findAfter(any(), any(), any(), any(), anyBoolean(), anyInt())).thenReturn(List.of(
+        new TaskChangeRepository.Change(b.id(), b.updatedAt(), b),
+        new TaskChangeRepository.Change(c.id(), c.updatedAt(), c)
+    ));
+    TaskChanges second = sync.changesSince(OWNER, PROJECT, SyncCursor.decodeOrNull(first.nextCursor()), 1);
+
+    assertFalse(second.resetRequired());
+    assertEquals(List.of(b), second.updated());
+    verify(repo).findAfter(eq(OWNER), eq(PROJECT), eq(new KeysetCursor(a.updatedAt(), a.id())), any(), eq(true), eq(2));
+  }
+
+  @Test
+  void cursorOlderThanTombstoneTtlRequiresReset() {
+    OffsetDateTime longAgo = OffsetDateTime.now(ZoneOffset.UTC).minusDays(31);
+    SyncCursor stale = new SyncCursor(longAgo, UUID.randomUUID(), longAgo);
+
+    TaskChanges page = sync.changesSince(OWNER, PROJECT, stale, 50);
+
+    assertTrue(page.resetRequired());
+    verify(repo, never()).findAfter(any(), any(), any(), any(), anyBoolean(), anyInt());
+  }
+
+  private static TaskResponse task(OffsetDateTime updatedAt) {
+    return new TaskResponse(UUID.randomUUID(), PROJECT, "Write docs", "TODO", null, updatedAt, updatedAt);
+  }
+}
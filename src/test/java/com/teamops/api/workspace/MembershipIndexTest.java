@@ -0,0 +1,63 @@
+package com.teamops.api.workspace;
+
+import com.teamops.api.cache.InMemoryInvalidationBus;
+import com.teamops.api.cache.InvalidationBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MembershipIndexTest {
+
+  private static final String EMAIL = "ana@teamops.dev";
+  private static final UUID WS = UUID.randomUUID();
+
+  // stands in for workspace_members
+  private final Map<String, Memberships> table = new ConcurrentHashMap<>();
+  private final AtomicInteger loads = new AtomicInteger();
+
+  // two "replicas" sharing one bus
+  private MembershipIndex nodeA;
+  private MembershipIndex nodeB;
+
+  @BeforeEach
+  void setUp() {
+    InvalidationBus bus = new InMemoryInvalidationBus();
+    nodeA = index(bus);
+    nodeB = index(bus);
+    table.put(EMAIL, new Memberships(Map.of(WS, WorkspaceRole.EDITOR)));
+  }
+
+  @Test
+  void loadsOncePerUserThenAnswersFromMemory() {
+    assertEquals(WorkspaceRole.EDITOR, nodeA.roleOf(EMAIL, WS));
+    assertNull(nodeA.roleOf(EMAIL, UUID.randomUUID()));
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void invalidateReachesOtherNodes() {
+    nodeA.roleOf(EMAIL, WS);
+    nodeB.roleOf(EMAIL, WS);
+
+    table.put(EMAIL, new Memberships(Map.of(WS, WorkspaceRole.VIEWER)));
+    nodeA.invalidate(List.of(EMAIL));
+
+    assertEquals(WorkspaceRole.VIEWER, nodeA.roleOf(EMAIL, WS));
+    assertEquals(WorkspaceRole.VIEWER, nodeB.roleOf(EMAIL, WS));
+  }
+
+  private MembershipIndex index(InvalidationBus bus) {
+    return new MembershipIndex(email -> {
+      loads.incrementAndGet();
+      return table.getOrDefault(email, Memberships.NONE);
+    }, bus, new WorkspaceProperties(), new SimpleMeterRegistry());
+  }
+}
@@ -0,0 +1,86 @@
+package com.teamops.api.workspace;
+
+import com.teamops.api.cache.InMemoryInvalidationBus;
+import com.teamops.api.cache.InvalidationBus;
+import com.teamops.api.project.ProjectRef;
+import com.teamops.api.project.ProjectRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProjectAccessTest {
+
+  private static final String OWNER = "owner@example.com";
+  private static final String VIEWER = "viewer@example.com";
+  private static final UUID PROJECT = UUID.randomUUID();
+  private static final UUID WS = UUID.randomUUID();
+
+  private ProjectRepository projects;
+  private ProjectAccess nodeA;
+  private ProjectAccess nodeB;
+
+  @BeforeEach
+  void setUp() {
+    projects = mock(ProjectRepository.class);
+    when(projects.findRef(PROJECT)).thenReturn(Optional.of(new ProjectRef(PROJECT, OWNER, WS)));
+
+    InvalidationBus bus = new InMemoryInvalidationBus();
+    WorkspaceProperties props = new WorkspaceProperties();
+    MembershipIndex index = new MembershipIndex(email -> VIEWER.equals(email)
+        ? new Memberships(Map.of(WS, WorkspaceRole.VIEWER))
+        : Memberships.NONE, bus, props, new SimpleMeterRegistry());
+
+    nodeA = new ProjectAccess(projects, index, bus, props, new SimpleMeterRegistry());
+    nodeB = new ProjectAccess(projects, index, bus, props, new SimpleMeterRegistry());
+  }
+
+  @Test
+  void resolvesRolesFromOneCachedLookup() {
+    assertEquals(WorkspaceRole.OWNER, nodeA.requireWrite(PROJECT, OWNER).role());
+    assertEquals(WorkspaceRole.VIEWER, nodeA.requireRead(PROJECT, VIEWER).role());
+    assertEquals(OWNER, nodeA.requireRead(PROJECT, VIEWER).ownerEmail());
+
+    assertEquals(HttpStatus.FORBIDDEN, status(() -> nodeA.requireWrite(PROJECT, VIEWER)));
+    assertEquals(HttpStatus.NOT_FOUND, status(() -> nodeA.requireRead(PROJECT, "stranger@example.com")));
+
+    verify(projects, times(1)).findRef(PROJECT);
+  }
+
+  @Test
+  void evictReachesOtherNodes() {
+    nodeA.requireRead(PROJECT, OWNER);
+    nodeB.requireRead(PROJECT, OWNER);
+
+    // unshared: members lose access everywhere
+    when(projects.findRef(PROJECT)).thenReturn(Optional.of(new ProjectRef(PROJECT, OWNER, null)));
+    nodeA.evict(PROJECT);
+
+    assertEquals(HttpStatus.NOT_FOUND, status(() -> nodeA.requireRead(PROJECT, VIEWER)));
+    assertEquals(HttpStatus.NOT_FOUND, status(() -> nodeB.requireRead(PROJECT, VIEWER)));
+  }
+
+  @Test
+  void missingProjectsAreNotCached() {
+    UUID unknown = UUID.randomUUID();
+    when(projects.findRef(unknown)).thenReturn(Optional.empty());
+
+    assertEquals(HttpStatus.NOT_FOUND, status(() -> nodeA.requireRead(unknown, OWNER)));
+    assertEquals(HttpStatus.NOT_FOUND, status(() -> nodeA.requireRead(unknown, OWNER)));
+
+    verify(projects, times(2)).findRef(unknown);
+  }
+
+  private static HttpStatus status(Runnable call) {
+    ResponseStatusException e = assertThrows(ResponseStatusException.class, call::run);
+    return HttpStatus.valueOf(e.getStatusCode().value());
+  }
+}